@@ -1,13 +1,21 @@
 package com.clumd.projects.javajson.api;
 
 import com.clumd.projects.javajson.core.JSType;
+import com.clumd.projects.javajson.core.JsonPathResult;
+import com.clumd.projects.javajson.core.RecordColumns;
 import com.clumd.projects.javajson.exceptions.json.JsonKeyException;
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 /**
  * Defines the required methods callable on a JSON object, to get type-safe properties, check existence,
@@ -52,6 +60,8 @@ public interface Json extends JsonGenerator, Serializable {
 
     /**
      * Used to get the underlying value of each JSON datatype in a non-typesafe manner.
+     * <p>
+     * For an array this is the same list as {@link #getArray() getArray} gives, so may be read-only.
      *
      * @return The Java data value this JSON object wraps.
      */
@@ -83,12 +93,73 @@ public interface Json extends JsonGenerator, Serializable {
 
     /**
      * Used to get the array value of this JSON object, if it was itself, an array.
+     * <p>
+     * Arrays parsed into a compact form, such as those holding only numbers of one type or records stored as columns,
+     * give a read-only list, which throws UnsupportedOperationException if it is changed. Each element is still the
+     * same object every time it is got from the list.
      *
      * @return The Array value of the current JSON object.
      * @throws KeyDifferentTypeException Thrown if this JSON object represents something other than an array.
      */
     List<Json> getArray() throws KeyDifferentTypeException;
 
+    /**
+     * Used to get the columns of this JSON object, if it was itself, an array of records which all have the same keys,
+     * with the same type of LONG, DOUBLE, BOOLEAN or STRING value under each key.
+     * <p>
+     * This is free if the array was parsed with {@link JsonParseOptions#withColumnarRecords(boolean)}, otherwise the
+     * columns are built from the current elements on every call.
+     *
+     * @return The columns of the current JSON array.
+     * @throws KeyDifferentTypeException Thrown if this JSON object represents something other than an array, or the
+     *                                   array does not hold records which all have the same layout.
+     */
+    RecordColumns getColumns() throws KeyDifferentTypeException;
+
+    /**
+     * Used to get the values of this JSON object as primitives, if it was itself, an array of only LONG values.
+     * <p>
+     * Arrays of only LONG values are stored as primitives when parsed, so this is a single copy of them.
+     *
+     * @return A new array holding every value of the current JSON array.
+     * @throws KeyDifferentTypeException Thrown if this JSON object represents something other than an array, or any of
+     *                                   its elements are not LONG.
+     */
+    long[] getLongArray() throws KeyDifferentTypeException;
+
+    /**
+     * Used to get the values of this JSON object as primitives, if it was itself, an array of only DOUBLE values.
+     * <p>
+     * Arrays of only DOUBLE values are stored as primitives when parsed, so this is a single copy of them.
+     *
+     * @return A new array holding every value of the current JSON array.
+     * @throws KeyDifferentTypeException Thrown if this JSON object represents something other than an array, or any of
+     *                                   its elements are not DOUBLE.
+     */
+    double[] getDoubleArray() throws KeyDifferentTypeException;
+
+    /**
+     * Used to stream the values of this JSON object, if it was itself, an array of only LONG values.
+     * <p>
+     * Streams directly over the parsed values, without copying or creating a node for each of them.
+     *
+     * @return A stream of every value of the current JSON array, in order.
+     * @throws KeyDifferentTypeException Thrown if this JSON object represents something other than an array, or any of
+     *                                   its elements are not LONG.
+     */
+    LongStream getLongStream() throws KeyDifferentTypeException;
+
+    /**
+     * Used to stream the values of this JSON object, if it was itself, an array of only DOUBLE values.
+     * <p>
+     * Streams directly over the parsed values, without copying or creating a node for each of them.
+     *
+     * @return A stream of every value of the current JSON array, in order.
+     * @throws KeyDifferentTypeException Thrown if this JSON object represents something other than an array, or any of
+     *                                   its elements are not DOUBLE.
+     */
+    DoubleStream getDoubleStream() throws KeyDifferentTypeException;
+
     /**
      * Used to get the boolean value of this JSON object, if it was itself, a boolean.
      *
@@ -198,6 +269,66 @@ public interface Json extends JsonGenerator, Serializable {
      */
     List<Json> getArrayAt(String key) throws JsonKeyException;
 
+    /**
+     * The same as {@link #getColumns() getColumns}, but at a path in the JSON given by key.
+     *
+     * @param key The key / path from the current JSON object to the target you want.
+     * @return The columns of the JSON ARRAY present at the given key.
+     * @throws JsonKeyException Thrown if they key is malformed,
+     *                          there was not a property at the provided key,
+     *                          the datatype of the value at key, was not ARRAY,
+     *                          or the array does not hold records which all have the same layout.
+     */
+    RecordColumns getColumnsAt(String key) throws JsonKeyException;
+
+    /**
+     * The same as {@link #getLongArray() getLongArray}, but at a path in the JSON given by key.
+     *
+     * @param key The key / path from the current JSON object to the target you want.
+     * @return A new array holding every value of the JSON ARRAY present at the given key.
+     * @throws JsonKeyException Thrown if they key is malformed,
+     *                          there was not a property at the provided key,
+     *                          the datatype of the value at key, was not ARRAY,
+     *                          or any element of the array was not LONG.
+     */
+    long[] getLongArrayAt(String key) throws JsonKeyException;
+
+    /**
+     * The same as {@link #getDoubleArray() getDoubleArray}, but at a path in the JSON given by key.
+     *
+     * @param key The key / path from the current JSON object to the target you want.
+     * @return A new array holding every value of the JSON ARRAY present at the given key.
+     * @throws JsonKeyException Thrown if they key is malformed,
+     *                          there was not a property at the provided key,
+     *                          the datatype of the value at key, was not ARRAY,
+     *                          or any element of the array was not DOUBLE.
+     */
+    double[] getDoubleArrayAt(String key) throws JsonKeyException;
+
+    /**
+     * The same as {@link #getLongStream() getLongStream}, but at a path in the JSON given by key.
+     *
+     * @param key The key / path from the current JSON object to the target you want.
+     * @return A stream of every value of the JSON ARRAY present at the given key, in order.
+     * @throws JsonKeyException Thrown if they key is malformed,
+     *                          there was not a property at the provided key,
+     *                          the datatype of the value at key, was not ARRAY,
+     *                          or any element of the array was not LONG.
+     */
+    LongStream getLongStreamAt(String key) throws JsonKeyException;
+
+    /**
+     * The same as {@link #getDoubleStream() getDoubleStream}, but at a path in the JSON given by key.
+     *
+     * @param key The key / path from the current JSON object to the target you want.
+     * @return A stream of every value of the JSON ARRAY present at the given key, in order.
+     * @throws JsonKeyException Thrown if they key is malformed,
+     *                          there was not a property at the provided key,
+     *                          the datatype of the value at key, was not ARRAY,
+     *                          or any element of the array was not DOUBLE.
+     */
+    DoubleStream getDoubleStreamAt(String key) throws JsonKeyException;
+
     /**
      * The same as {@link #getBoolean() getBoolean}, but at a path in the JSON given by key.
      *
@@ -255,6 +386,17 @@ public interface Json extends JsonGenerator, Serializable {
      */
     Json getAnyAt(String key) throws JsonKeyException;
 
+    /**
+     * Looks up many keys at once, walking the JSON only once, and only once through any part of the path which the
+     * keys share. Unlike the other lookups, nothing is thrown for keys which are not present: each key gets a result
+     * saying whether its value was found, missing, or a key could not be applied to the type of value it was used on.
+     *
+     * @param keys The keys / paths from the current JSON object to the targets you want.
+     * @return One result for each distinct key, in the order the keys were given.
+     * @throws JsonKeyException Thrown if any of the keys are malformed.
+     */
+    Map<String, JsonPathResult> getManyAt(Collection<String> keys) throws JsonKeyException;
+
 
     /**
      * Calls as string with the shallowest depth
@@ -287,6 +429,42 @@ public interface Json extends JsonGenerator, Serializable {
      */
     String asString(int depth);
 
+    /**
+     * Writes the same text as {@link #asString() asString} straight into the destination as it goes, without first
+     * building any of it as a String. Useful when the output is large, or is going to a Writer anyway.
+     *
+     * @param destination Where to write the JSON, such as a Writer or StringBuilder.
+     * @throws IOException Thrown if the destination fails to accept what is written.
+     */
+    void writeTo(Appendable destination) throws IOException;
+
+    /**
+     * Writes the same text as {@link #asString() asString} straight into the destination as UTF-8 bytes. The
+     * destination is flushed once everything has been written, but is not closed.
+     *
+     * @param destination Where to write the JSON, such as a socket or file's stream.
+     * @throws IOException Thrown if the destination fails to accept what is written.
+     */
+    void writeTo(OutputStream destination) throws IOException;
+
+    /**
+     * Gives the same text as {@link #asString() asString} as UTF-8 bytes, written straight into an array of exactly
+     * the right size, without building a String first.
+     *
+     * @return The UTF-8 bytes of this JSON.
+     * @throws IllegalStateException Thrown if the JSON is too large to be held in a single array.
+     */
+    byte[] toUtf8Bytes();
+
+    /**
+     * Writes the same bytes as {@link #toUtf8Bytes() toUtf8Bytes} into the destination, starting at its position, and
+     * moves its position on past them. Nothing is written unless all of it will fit.
+     *
+     * @param destination Where to write the JSON.
+     * @throws java.nio.BufferOverflowException Thrown if there is not enough room remaining in the destination.
+     */
+    void writeUtf8(ByteBuffer destination);
+
 
     /**
      * Calls asPrettyString with the deepest depth and a default indent width of 4.
@@ -313,6 +491,25 @@ public interface Json extends JsonGenerator, Serializable {
      */
     String asPrettyString(int depth, int indentWidth);
 
+    /**
+     * Writes the same text as {@link #asPrettyString() asPrettyString} straight into the destination as it goes,
+     * without first building any of it as a String.
+     *
+     * @param destination Where to write the JSON, such as a Writer or StringBuilder.
+     * @throws IOException Thrown if the destination fails to accept what is written.
+     */
+    void writePrettyTo(Appendable destination) throws IOException;
+
+    /**
+     * Writes the same text as {@link #asPrettyString(int, int) asPrettyString} would at the deepest depth straight into
+     * the destination as it goes, without first building any of it as a String.
+     *
+     * @param destination Where to write the JSON, such as a Writer or StringBuilder.
+     * @param indentWidth How wide each subsequent indentation should be on child properties.
+     * @throws IOException Thrown if the destination fails to accept what is written.
+     */
+    void writePrettyTo(Appendable destination, int indentWidth) throws IOException;
+
 
     /**
      * Replica of the .equals on a class, but used to enforce that implementors will override.
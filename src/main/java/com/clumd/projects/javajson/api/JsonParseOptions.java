@@ -0,0 +1,277 @@
+package com.clumd.projects.javajson.api;
+
+import com.clumd.projects.javajson.core.ObjectKeyInterner;
+
+/**
+ * An immutable set of optional behaviours to apply while parsing JSON, for use with the {@link JsonParser} methods which
+ * accept them.
+ * <p>
+ * Each {@code with...} method returns a new set of options, leaving the original untouched, so instances are safe to
+ * share and reuse between parses.
+ */
+public final class JsonParseOptions {
+
+    private static final int DEFAULT_PARALLEL_ARRAY_THRESHOLD = 1024;
+    private static final long DEFAULT_MEMOISATION_BUDGET = 1 << 20;
+    private static final JsonParseOptions DEFAULTS = new JsonParseOptions();
+
+    // Never changed once an instance is shared, each with... method changes only its own copy.
+    private boolean lazyMaterialisation = false;
+    private boolean structuralIndex = false;
+    private boolean parallelArrays = false;
+    private int parallelArrayThreshold = DEFAULT_PARALLEL_ARRAY_THRESHOLD;
+    private boolean keyInterning = true;
+    private ObjectKeyInterner sharedKeyInterner = null;
+    private boolean columnarRecords = false;
+    private boolean memoisation = false;
+    private long memoisationBudget = DEFAULT_MEMOISATION_BUDGET;
+
+    private JsonParseOptions() {
+    }
+
+    private JsonParseOptions copy() {
+        JsonParseOptions copy = new JsonParseOptions();
+        copy.lazyMaterialisation = lazyMaterialisation;
+        copy.structuralIndex = structuralIndex;
+        copy.parallelArrays = parallelArrays;
+        copy.parallelArrayThreshold = parallelArrayThreshold;
+        copy.keyInterning = keyInterning;
+        copy.sharedKeyInterner = sharedKeyInterner;
+        copy.columnarRecords = columnarRecords;
+        copy.memoisation = memoisation;
+        copy.memoisationBudget = memoisationBudget;
+        return copy;
+    }
+
+    /**
+     * The options used by all parse methods which do not explicitly take any.
+     *
+     * @return The default set of parse options.
+     */
+    public static JsonParseOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Whether objects and arrays should only record where they are in the input while parsing, and wait until their
+     * keys or values are first asked for to actually parse their children.
+     * <p>
+     * This can make a huge difference if only a small part of a large input is ever read, but any syntax errors inside
+     * an object or array will only be thrown when it is first accessed.
+     * Only applies when parsing from input which is held fully in memory (Strings, byte arrays and byte buffers).
+     *
+     * @param lazyMaterialisation True to parse the children of objects and arrays on first access.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withLazyMaterialisation(boolean lazyMaterialisation) {
+        JsonParseOptions copy = copy();
+        copy.lazyMaterialisation = lazyMaterialisation;
+        return copy;
+    }
+
+    /**
+     * @return Whether objects and arrays will parse their children on first access, rather than up front.
+     * @see #withLazyMaterialisation(boolean)
+     */
+    public boolean isLazyMaterialisation() {
+        return lazyMaterialisation;
+    }
+
+    /**
+     * Whether to make a first, tight, pass over the whole input to find the position of every token, before building
+     * any JSON from it.
+     * <p>
+     * The parse itself can then jump straight over whitespace and comments, skip whole objects and arrays (see
+     * {@link #withLazyMaterialisation(boolean)}) and size arrays correctly up front, at the cost of holding an index of
+     * roughly two ints per token for the duration of the parse (or for as long as a lazily parsed object is alive).
+     * Only applies when parsing from input which is held fully in memory (Strings, byte arrays and byte buffers).
+     *
+     * @param structuralIndex True to index the input before parsing it.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withStructuralIndex(boolean structuralIndex) {
+        JsonParseOptions copy = copy();
+        copy.structuralIndex = structuralIndex;
+        return copy;
+    }
+
+    /**
+     * @return Whether the input will be indexed before being parsed.
+     * @see #withStructuralIndex(boolean)
+     */
+    public boolean isStructuralIndex() {
+        return structuralIndex;
+    }
+
+    /**
+     * Whether large arrays should have their elements parsed concurrently, on the common {@link
+     * java.util.concurrent.ForkJoinPool}, rather than one after another.
+     * <p>
+     * The input is first indexed (as with {@link #withStructuralIndex(boolean)}) to find where every element starts, so
+     * that each can be parsed independently, and the resulting array keeps its elements in their original order.
+     * Arrays with fewer elements than {@link #withParallelArrayThreshold(int)} are always parsed sequentially. If any
+     * element is invalid, the array is parsed again sequentially, so the error thrown is exactly the one which would
+     * have been thrown without this option.
+     * Only applies when parsing from input which is held fully in memory (Strings, byte arrays and byte buffers).
+     *
+     * @param parallelArrays True to parse the elements of large arrays concurrently.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withParallelArrays(boolean parallelArrays) {
+        JsonParseOptions copy = copy();
+        copy.parallelArrays = parallelArrays;
+        return copy;
+    }
+
+    /**
+     * @return Whether the elements of large arrays will be parsed concurrently.
+     * @see #withParallelArrays(boolean)
+     */
+    public boolean isParallelArrays() {
+        return parallelArrays;
+    }
+
+    /**
+     * The fewest elements an array must have before it is worth parsing them concurrently, when {@link
+     * #withParallelArrays(boolean)} is enabled. Defaults to 1024.
+     *
+     * @param minimumElements The smallest array size to parse concurrently.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withParallelArrayThreshold(int minimumElements) {
+        JsonParseOptions copy = copy();
+        copy.parallelArrayThreshold = Math.max(minimumElements, 1);
+        return copy;
+    }
+
+    /**
+     * @return The fewest elements an array must have to be parsed concurrently.
+     * @see #withParallelArrayThreshold(int)
+     */
+    public int getParallelArrayThreshold() {
+        return parallelArrayThreshold;
+    }
+
+    /**
+     * Whether every occurrence of the same object key within a parse should be the same String instance.
+     * <p>
+     * Keys are looked up straight from the input, so repeated keys (such as in large arrays of records) cost no extra
+     * allocation and retain no extra heap. Enabled by default, using a small table for the duration of each parse,
+     * unless a table to share between parses is given with {@link #withSharedKeyInterner(ObjectKeyInterner)}.
+     *
+     * @param keyInterning True to canonicalise object keys while parsing.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withKeyInterning(boolean keyInterning) {
+        JsonParseOptions copy = copy();
+        copy.keyInterning = keyInterning;
+        return copy;
+    }
+
+    /**
+     * @return Whether object keys will be canonicalised while parsing.
+     * @see #withKeyInterning(boolean)
+     */
+    public boolean isKeyInterning() {
+        return keyInterning;
+    }
+
+    /**
+     * A bounded, thread safe, table of canonical keys to use for every parse with these options, rather than a new
+     * table for each parse. Keys can also be added to it up front, so lookups made with those same instances hit on
+     * identity. Implies {@link #withKeyInterning(boolean)}.
+     *
+     * @param sharedKeyInterner The table of keys to share between parses, or null to use one per parse.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withSharedKeyInterner(ObjectKeyInterner sharedKeyInterner) {
+        JsonParseOptions copy = copy();
+        copy.sharedKeyInterner = sharedKeyInterner;
+        if (sharedKeyInterner != null) {
+            copy.keyInterning = true;
+        }
+        return copy;
+    }
+
+    /**
+     * @return The table of keys shared between parses, or null if each parse uses its own.
+     * @see #withSharedKeyInterner(ObjectKeyInterner)
+     */
+    public ObjectKeyInterner getSharedKeyInterner() {
+        return sharedKeyInterner;
+    }
+
+    /**
+     * Whether arrays of flat records should be stored as columns, rather than as one object per element.
+     * <p>
+     * An array qualifies when every element is an object with the same keys, added in the same order, and every value
+     * under each key has the same type (LONG, DOUBLE, BOOLEAN or STRING). Its values are then held in a primitive array
+     * per key, with strings dictionary encoded, which can be read directly through {@link Json#getColumnsAt(String)}.
+     * The array still behaves exactly as before through every other method, building each element on access.
+     * Arrays which don't qualify are stored as usual.
+     *
+     * @param columnarRecords True to store qualifying arrays of records as columns.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withColumnarRecords(boolean columnarRecords) {
+        JsonParseOptions copy = copy();
+        copy.columnarRecords = columnarRecords;
+        return copy;
+    }
+
+    /**
+     * @return Whether qualifying arrays of records will be stored as columns.
+     * @see #withColumnarRecords(boolean)
+     */
+    public boolean isColumnarRecords() {
+        return columnarRecords;
+    }
+
+    /**
+     * Whether objects and arrays should keep their hashCode and compact text (as given by {@link Json#asString()})
+     * once they have been worked out, rather than working them out again from all their children every time.
+     * <p>
+     * Worth it for JSON which is hashed or written many times, such as documents kept in a HashSet, or cached and
+     * served repeatedly. Hashes cost nothing extra to keep, but text is only kept up to the
+     * {@link #withMemoisationBudget(long) budget} of each parse, after which it is worked out each time as usual.
+     * {@link Json#writeTo(Appendable)} always streams, only reusing text already kept. Not kept when serialised.
+     *
+     * @param memoisation True to keep the hashCode and compact text of objects and arrays once worked out.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withMemoisation(boolean memoisation) {
+        JsonParseOptions copy = copy();
+        copy.memoisation = memoisation;
+        return copy;
+    }
+
+    /**
+     * @return Whether objects and arrays will keep their hashCode and compact text once worked out.
+     * @see #withMemoisation(boolean)
+     */
+    public boolean isMemoisation() {
+        return memoisation;
+    }
+
+    /**
+     * The most characters of compact text the objects and arrays from each parse may keep between them, when {@link
+     * #withMemoisation(boolean)} is enabled. Text is only kept for the objects and arrays that {@link Json#asString()}
+     * is itself called on, never for those nested within them. Defaults to 1048576 characters (2 MB).
+     *
+     * @param characters The most characters to keep for each parse.
+     * @return A copy of these options with the new value applied.
+     */
+    public JsonParseOptions withMemoisationBudget(long characters) {
+        JsonParseOptions copy = copy();
+        copy.memoisationBudget = Math.max(characters, 0);
+        return copy;
+    }
+
+    /**
+     * @return The most characters of compact text to keep for each parse.
+     * @see #withMemoisationBudget(long)
+     */
+    public long getMemoisationBudget() {
+        return memoisationBudget;
+    }
+}
@@ -1,13 +1,25 @@
 package com.clumd.projects.javajson.api;
 
+import com.clumd.projects.javajson.core.ByteTape;
+import com.clumd.projects.javajson.core.JsonLines;
+import com.clumd.projects.javajson.core.JsonReader;
 import com.clumd.projects.javajson.core.JsonTape;
+import com.clumd.projects.javajson.core.MappedJsonTape;
+import com.clumd.projects.javajson.core.ReaderJsonTape;
 import com.clumd.projects.javajson.exceptions.JsonException;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * A default static utility class for constructing JSON objects from various forms of String input.
@@ -28,6 +40,203 @@ public final class JsonParser {
         return new JsonTape(jsonAsString).parseNextElement();
     }
 
+    /**
+     * Parse a single JSON object from String, with non-default parsing behaviour.
+     *
+     * @param jsonAsString The JSON object in string form.
+     * @param options      The optional behaviours to use while parsing.
+     * @return The JSON object in Java-JSON form.
+     * @throws JsonException Thrown if there is a problem with the input.
+     */
+    public static Json parse(String jsonAsString, JsonParseOptions options) throws JsonException {
+        return new JsonTape(jsonAsString, options).parseNextElement();
+    }
+
+    /**
+     * Parse a single JSON object from UTF-8 encoded bytes, without first decoding them into a String.
+     * <p>
+     * Only the contents of strings (and numbers) are ever decoded, everything else is parsed straight from the bytes.
+     *
+     * @param jsonAsBytes The JSON object in UTF-8 encoded form.
+     * @return The JSON object in Java-JSON form.
+     * @throws JsonException Thrown if there is a problem with the input.
+     */
+    public static Json parse(byte[] jsonAsBytes) throws JsonException {
+        return new ByteTape(jsonAsBytes).parseNextElement();
+    }
+
+    /**
+     * Parse a single JSON object from UTF-8 encoded bytes, with non-default parsing behaviour.
+     *
+     * @param jsonAsBytes The JSON object in UTF-8 encoded form.
+     * @param options     The optional behaviours to use while parsing.
+     * @return The JSON object in Java-JSON form.
+     * @throws JsonException Thrown if there is a problem with the input.
+     * @see #parse(byte[])
+     */
+    public static Json parse(byte[] jsonAsBytes, JsonParseOptions options) throws JsonException {
+        return new ByteTape(jsonAsBytes, options).parseNextElement();
+    }
+
+    /**
+     * Parse a single JSON object from the remaining UTF-8 encoded bytes of a buffer, without first decoding them into a
+     * String.
+     * <p>
+     * The position of the buffer is not changed.
+     *
+     * @param jsonAsBuffer The JSON object in UTF-8 encoded form, between the position and limit of the buffer.
+     * @return The JSON object in Java-JSON form.
+     * @throws JsonException Thrown if there is a problem with the input.
+     */
+    public static Json parse(ByteBuffer jsonAsBuffer) throws JsonException {
+        return new ByteTape(jsonAsBuffer).parseNextElement();
+    }
+
+    /**
+     * Parse a single JSON object from the remaining UTF-8 encoded bytes of a buffer, with non-default parsing behaviour.
+     *
+     * @param jsonAsBuffer The JSON object in UTF-8 encoded form, between the position and limit of the buffer.
+     * @param options      The optional behaviours to use while parsing.
+     * @return The JSON object in Java-JSON form.
+     * @throws JsonException Thrown if there is a problem with the input.
+     * @see #parse(ByteBuffer)
+     */
+    public static Json parse(ByteBuffer jsonAsBuffer, JsonParseOptions options) throws JsonException {
+        return new ByteTape(jsonAsBuffer, options).parseNextElement();
+    }
+
+    /**
+     * Parse a single JSON object from a UTF-8 encoded file, by memory mapping it rather than reading it onto the heap.
+     * <p>
+     * Files larger than 2GB are supported, they are mapped one window at a time as the parse moves through them.
+     * Parse errors report the byte offset into the file as well as the line number.
+     *
+     * @param jsonFile The path to the file containing the JSON object.
+     * @return The JSON object in Java-JSON form.
+     * @throws JsonException Thrown if there is a problem with the input, or the file could not be read.
+     */
+    public static Json parse(Path jsonFile) throws JsonException {
+        try (MappedJsonTape tape = new MappedJsonTape(jsonFile)) {
+            return tape.parseNextElement();
+        }
+    }
+
+    /**
+     * Parse a single JSON object from a stream of characters, without first reading the whole input into memory.
+     * <p>
+     * The reader is read ahead in buffer sized chunks, so may be consumed past the end of the JSON object, and is not
+     * closed. Use {@link #parseLines(Reader)} for input holding more than one JSON value.
+     *
+     * @param jsonAsReader The source of the JSON object in character form.
+     * @return The JSON object in Java-JSON form.
+     * @throws JsonException Thrown if there is a problem with the input, or it could not be read.
+     */
+    public static Json parse(Reader jsonAsReader) throws JsonException {
+        return new ReaderJsonTape(jsonAsReader).parseNextElement();
+    }
+
+    /**
+     * Parse a single JSON object from a stream of UTF-8 encoded bytes, without first reading the whole input into memory.
+     * <p>
+     * The stream is read ahead in buffer sized chunks, so may be consumed past the end of the JSON object, and is not
+     * closed.
+     *
+     * @param jsonAsStream The source of the JSON object in UTF-8 encoded form.
+     * @return The JSON object in Java-JSON form.
+     * @throws JsonException Thrown if there is a problem with the input, or it could not be read.
+     */
+    public static Json parse(InputStream jsonAsStream) throws JsonException {
+        return parse(jsonAsStream == null ? null : new InputStreamReader(jsonAsStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lazily parse newline delimited JSON (NDJSON / JSON Lines), where each line of the input holds one JSON value.
+     * <p>
+     * Lines are only read and parsed as the stream is consumed, and blank lines are skipped. Any parse error reports
+     * the line number of the failing value within the whole input. The reader is not closed.
+     *
+     * @param jsonLines The source of the newline delimited JSON.
+     * @return A sequential, ordered stream of each line's JSON value.
+     * @throws JsonException Thrown if the input was null, or later while consuming the stream if a line could not be
+     *                       read or parsed.
+     */
+    public static Stream<Json> parseLines(Reader jsonLines) throws JsonException {
+        return JsonLines.stream(jsonLines);
+    }
+
+    /**
+     * Lazily parse a UTF-8 encoded file of newline delimited JSON (NDJSON / JSON Lines), where each line of the file
+     * holds one JSON value.
+     * <p>
+     * The file is memory mapped rather than read onto the heap, and the stream can be split at line boundaries, so
+     * calling {@link Stream#parallel()} on it will parse different parts of the file on different cores. Blank lines are
+     * skipped, and any parse error reports the line number of the failing value within the whole file.
+     * <p>
+     * The file stays open until the stream is closed, so this should be used in a try-with-resources statement.
+     *
+     * @param jsonLinesFile The path to the file containing the newline delimited JSON.
+     * @return An ordered stream of each line's JSON value, which must be closed.
+     * @throws JsonException Thrown if the file could not be opened, or later while consuming the stream if a line
+     *                       could not be parsed.
+     */
+    public static Stream<Json> parseLines(Path jsonLinesFile) throws JsonException {
+        return JsonLines.stream(jsonLinesFile);
+    }
+
+    /**
+     * Walk a JSON object one token at a time, without building any {@link Json} from it.
+     * <p>
+     * Useful when a document only needs to be read once, from start to finish, as nothing is kept beyond the current
+     * token. Any part of the document can still be built into a {@link Json} with {@link JsonReader#readTree()}.
+     *
+     * @param jsonAsString The JSON object in string form.
+     * @return A reader positioned before the first token of the JSON object.
+     * @throws JsonException Thrown if the input was null or empty, syntax errors are thrown as they are reached.
+     */
+    public static JsonReader reader(String jsonAsString) throws JsonException {
+        return new JsonReader(new JsonTape(jsonAsString));
+    }
+
+    /**
+     * Walk a JSON object from UTF-8 encoded bytes one token at a time, without building any {@link Json} from it.
+     *
+     * @param jsonAsBytes The JSON object in UTF-8 encoded form.
+     * @return A reader positioned before the first token of the JSON object.
+     * @throws JsonException Thrown if the input was null or empty, syntax errors are thrown as they are reached.
+     * @see #reader(String)
+     */
+    public static JsonReader reader(byte[] jsonAsBytes) throws JsonException {
+        return new JsonReader(new ByteTape(jsonAsBytes));
+    }
+
+    /**
+     * Walk a JSON object from a UTF-8 encoded file one token at a time, without building any {@link Json} from it.
+     * <p>
+     * The file is memory mapped, and stays open until the returned reader is closed.
+     *
+     * @param jsonFile The path to the file containing the JSON object.
+     * @return A reader positioned before the first token of the JSON object.
+     * @throws JsonException Thrown if the file could not be read, syntax errors are thrown as they are reached.
+     * @see #reader(String)
+     */
+    public static JsonReader reader(Path jsonFile) throws JsonException {
+        return new JsonReader(new MappedJsonTape(jsonFile));
+    }
+
+    /**
+     * Walk a JSON object from a stream of characters one token at a time, without building any {@link Json} from it.
+     * <p>
+     * The stream is read ahead of the reader in buffer sized chunks, and is not closed.
+     *
+     * @param jsonAsReader The source of the JSON object in character form.
+     * @return A reader positioned before the first token of the JSON object.
+     * @throws JsonException Thrown if the input could not be read, syntax errors are thrown as they are reached.
+     * @see #reader(String)
+     */
+    public static JsonReader reader(Reader jsonAsReader) throws JsonException {
+        return new JsonReader(new ReaderJsonTape(jsonAsReader));
+    }
+
     /**
      * Parse a collection of strings into a single JSON object.
      *
@@ -122,6 +331,24 @@ public final class JsonParser {
         return jsons;
     }
 
+    /**
+     * The same as {@link #parseMultipleStringsForDistinct(Collection)}, with non-default parsing behaviour. Use
+     * {@link JsonParseOptions#withMemoisation(boolean)} if the Set will be used for many lookups, so each element's
+     * hashCode is only worked out once.
+     *
+     * @param multipleJsonAsStrings A collection of JSON objects in string form, containing potential duplicates.
+     * @param options               The optional behaviours to use while parsing each of them.
+     * @return A Set, of unique JSON objects converted from the input collection.
+     * @throws JsonException Thrown if there was a problem during the conversion process of the Java to JSON.
+     */
+    public static Set<Json> parseMultipleStringsForDistinct(Collection<String> multipleJsonAsStrings, JsonParseOptions options) throws JsonException {
+        Set<Json> jsons = new HashSet<>(multipleJsonAsStrings.size());
+        for (String s : multipleJsonAsStrings) {
+            jsons.add(parse(s, options));
+        }
+        return jsons;
+    }
+
     /**
      * The same as {@link #parseMultipleJSONables(Collection)}, but any duplicates will be filtered out.
      *
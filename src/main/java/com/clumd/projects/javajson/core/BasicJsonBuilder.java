@@ -369,7 +369,7 @@ public class BasicJsonBuilder implements JsonBuilder, JsonGenerator {
 
                 //if it is a string, be sure to bookend with quotes else call the default toString
                 if (value instanceof String s) {
-                    o.append('"').append(escapeString(s)).append('"');
+                    o.append(JsonEscaper.quoted(s));
                 } else {
                     o.append(value.toString());
                 }
@@ -390,24 +390,24 @@ public class BasicJsonBuilder implements JsonBuilder, JsonGenerator {
 
             //print all of our booleans with keys
             for (Map.Entry<String, Boolean> entry : booleans.entrySet()) {
-                o.append('"').append(escapeString(entry.getKey())).append("\":").append(entry.getValue()).append(',');
+                o.append(JsonEscaper.quoted(entry.getKey())).append(':').append(entry.getValue()).append(',');
             }
             //print all of our doubles with keys
             for (Map.Entry<String, Double> entry : doubles.entrySet()) {
-                o.append('"').append(escapeString(entry.getKey())).append("\":").append(entry.getValue()).append(',');
+                o.append(JsonEscaper.quoted(entry.getKey())).append(':').append(entry.getValue()).append(',');
             }
             //print all of our longs with keys
             for (Map.Entry<String, Long> entry : longs.entrySet()) {
-                o.append('"').append(escapeString(entry.getKey())).append("\":").append(entry.getValue()).append(',');
+                o.append(JsonEscaper.quoted(entry.getKey())).append(':').append(entry.getValue()).append(',');
             }
             //print all of our strings with keys
             for (Map.Entry<String, String> entry : strings.entrySet()) {
-                o.append('"').append(escapeString(entry.getKey())).append("\":\"").append(escapeString(entry.getValue())).append("\",");
+                o.append(JsonEscaper.quoted(entry.getKey())).append(':').append(JsonEscaper.quoted(entry.getValue())).append(',');
             }
 
             //print all of our sub objects too (again, with keys)
             for (Map.Entry<String, BasicJsonBuilder> entry : objects.entrySet()) {
-                o.append('"').append(escapeString(entry.getKey())).append("\":");
+                o.append(JsonEscaper.quoted(entry.getKey())).append(':');
                 o.append(objects.get(entry.getKey()).toString());
                 o.append(',');
             }
@@ -422,10 +422,4 @@ public class BasicJsonBuilder implements JsonBuilder, JsonGenerator {
         }
         return o.toString();
     }
-
-    private String escapeString(String stringToEscape) {
-        return stringToEscape
-                .replaceAll("\\\\", "\\\\\\\\")
-                .replaceAll("\"", "\\\\\"");
-    }
 }
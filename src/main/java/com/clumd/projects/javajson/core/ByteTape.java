@@ -0,0 +1,89 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.JsonParseOptions;
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class ByteTape extends JsonTape {
+
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    ByteBuffer fullInputBytes;
+
+    public ByteTape(byte[] fullInput) {
+        this(fullInput, JsonParseOptions.defaults());
+    }
+
+    public ByteTape(byte[] fullInput, JsonParseOptions options) {
+        this(fullInput == null ? null : ByteBuffer.wrap(fullInput), options);
+    }
+
+    public ByteTape(ByteBuffer fullInput) {
+        this(fullInput, JsonParseOptions.defaults());
+    }
+
+    public ByteTape(ByteBuffer fullInput, JsonParseOptions options) {
+        super(options);
+        //Sanity Check
+        if (fullInput == null || !fullInput.hasRemaining()) {
+            throw new JsonParseException("You cannot create something from nothing. Input was "
+                    + (fullInput == null ? "null." : "empty."));
+        }
+        ByteBuffer input = fullInput.slice();
+        this.fullInputBytes = input.position(byteOrderMarkLength(input)).slice();
+        buildStructuralIndexIfRequested();
+    }
+
+    ByteTape(JsonParseOptions options) {
+        // Subclasses are responsible for providing the bytes.
+        super(options);
+    }
+
+    @Override
+    char checkCharAt(int absoluteOffset) {
+        // Every structural character is ASCII, and no byte of a multibyte UTF-8 sequence can be mistaken for one.
+        return (char) (fullInputBytes.get(absoluteOffset) & 0xFF);
+    }
+
+    @Override
+    boolean hasCharAt(int absoluteOffset) {
+        return absoluteOffset >= 0 && absoluteOffset < fullInputBytes.limit();
+    }
+
+    @Override
+    String requestRegion(int fromHere, int toHere) {
+        // Only at this point do we actually pay to decode the UTF-8.
+        if (fullInputBytes.hasArray()) {
+            return new String(
+                    fullInputBytes.array(),
+                    fullInputBytes.arrayOffset() + fromHere,
+                    toHere - fromHere,
+                    StandardCharsets.UTF_8
+            );
+        }
+        byte[] region = new byte[toHere - fromHere];
+        fullInputBytes.get(fromHere, region);
+        return new String(region, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    JsonTape newReadHead() {
+        ByteTape fork = new ByteTape(options);
+        fork.fullInputBytes = fullInputBytes;
+        return fork;
+    }
+
+    static int byteOrderMarkLength(ByteBuffer input) {
+        if (input.remaining() < UTF_8_BOM.length) {
+            return 0;
+        }
+        for (int bomIndex = 0; bomIndex < UTF_8_BOM.length; bomIndex++) {
+            if (input.get(input.position() + bomIndex) != UTF_8_BOM[bomIndex]) {
+                return 0;
+            }
+        }
+        return UTF_8_BOM.length;
+    }
+}
@@ -0,0 +1,190 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * The children of a JSObject: while there are only a few of them, an {@link ObjectShape} (which can be shared with
+ * every other object built with the same keys) plus an array of just this object's values, upgraded to a HashMap once
+ * past {@link #FLAT_THRESHOLD}.
+ * <p>
+ * Iteration order is exactly what a default sized HashMap would give for the same insertions (ascending hash bucket,
+ * then insertion order within a bucket), so switching representation never changes the order keys are printed in.
+ */
+final class CompactObjectMap extends AbstractMap<String, Json> implements Serializable {
+
+    private static final long serialVersionUID = 100L;
+
+    // Must stay within a default HashMap's resize threshold (12), so its buckets are all we need to mimic.
+    static final int FLAT_THRESHOLD = 8;
+    private static final int INITIAL_FLAT_CAPACITY = 4;
+
+    // Values are stored in the slot the shape gives their key, both are null once upgraded.
+    private ObjectShape shape;
+    private Json[] values;
+    private HashMap<String, Json> table = null;
+
+    CompactObjectMap() {
+        this(ObjectShape.root(), INITIAL_FLAT_CAPACITY);
+    }
+
+    CompactObjectMap(ObjectShape root, int expectedSize) {
+        // A negative expected size means it isn't known.
+        if (expectedSize > FLAT_THRESHOLD) {
+            table = new HashMap<>();
+        } else {
+            shape = root;
+            values = new Json[expectedSize < 0 ? INITIAL_FLAT_CAPACITY : expectedSize];
+        }
+    }
+
+    CompactObjectMap(ObjectShape shape, Json[] values) {
+        // The values must be in the slots the shape gives their keys, and are not copied.
+        this.shape = shape;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return table == null ? shape.size() : table.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Json get(Object key) {
+        if (table != null) {
+            return table.get(key);
+        }
+        int slot = shape.slotOf(key);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return table != null ? table.containsKey(key) : shape.slotOf(key) >= 0;
+    }
+
+    @Override
+    public Json put(String key, Json value) {
+        if (table != null) {
+            return table.put(key, value);
+        }
+        int slot = shape.slotOf(key);
+        if (slot >= 0) {
+            Json previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        int size = shape.size();
+        if (size == FLAT_THRESHOLD) {
+            upgrade().put(key, value);
+            return null;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.min(Math.max(size * 2, INITIAL_FLAT_CAPACITY), FLAT_THRESHOLD));
+        }
+        shape = shape.with(key);
+        values[size] = value;
+        return null;
+    }
+
+    void trimToSize() {
+        // Called once parsing is done, so no slack is retained for the life of the object.
+        if (table == null && values.length > shape.size()) {
+            values = Arrays.copyOf(values, shape.size());
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Json> action) {
+        if (table != null) {
+            table.forEach(action);
+            return;
+        }
+        for (int slot : shape.iterationOrder()) {
+            action.accept(shape.keyAt(slot), values[slot]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Json>> entrySet() {
+        if (table != null) {
+            return table.entrySet();
+        }
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Json>> iterator() {
+                ObjectShape iteratedShape = shape;
+                int[] order = iteratedShape.iterationOrder();
+                return new Iterator<>() {
+                    private int position = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < order.length;
+                    }
+
+                    @Override
+                    public Entry<String, Json> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int slot = order[position++];
+                        return new SimpleImmutableEntry<>(iteratedShape.keyAt(slot), values[slot]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactObjectMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as HashMap: the sum over every entry of key.hashCode() ^ value.hashCode().
+        if (table != null) {
+            return table.hashCode();
+        }
+        int hash = 0;
+        for (int slot = 0; slot < shape.size(); slot++) {
+            hash += shape.keyAt(slot).hashCode() ^ values[slot].hashCode();
+        }
+        return hash;
+    }
+
+    ObjectShape shape() {
+        return shape;
+    }
+
+    Json valueAt(int slot) {
+        return values[slot];
+    }
+
+    private Map<String, Json> upgrade() {
+        // Inserting in the original order keeps the HashMap's iteration order identical to one built directly.
+        table = new HashMap<>();
+        for (int slot = 0; slot < shape.size(); slot++) {
+            table.put(shape.keyAt(slot), values[slot]);
+        }
+        shape = null;
+        values = null;
+        return table;
+    }
+}
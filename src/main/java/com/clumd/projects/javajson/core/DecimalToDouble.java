@@ -0,0 +1,157 @@
+package com.clumd.projects.javajson.core;
+
+import java.math.BigInteger;
+
+/**
+ * Converts a decimal significand and power of ten into the nearest double, without going through a String.
+ * <p>
+ * Small values are computed exactly with a single floating point operation (Clinger's fast path), everything else uses
+ * the Eisel-Lemire algorithm with a 128 bit approximation of the power of five. In the rare cases where that can't
+ * guarantee the correctly rounded result, NaN is returned so the caller can fall back to {@link Double#parseDouble}.
+ */
+final class DecimalToDouble {
+
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+    private static final int MANTISSA_EXPLICIT_BITS = 52;
+    private static final int MINIMUM_EXPONENT = -1023;
+    private static final int INFINITE_POWER = 0x7FF;
+    private static final int MIN_EXPONENT_ROUND_TO_EVEN = -4;
+    private static final int MAX_EXPONENT_ROUND_TO_EVEN = 23;
+    private static final long PRECISION_MASK = -1L >>> (MANTISSA_EXPLICIT_BITS + 3);
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private DecimalToDouble() {
+    }
+
+    static double convert(long significand, int powerOfTen, boolean negative) {
+        // The significand is treated as unsigned, so can be anything up to 19 decimal digits.
+        if (significand >= 0 && significand <= MAX_EXACT_MANTISSA
+                && powerOfTen >= -22 && powerOfTen <= 22) {
+            double value = powerOfTen < 0
+                    ? significand / EXACT_POWERS_OF_TEN[-powerOfTen]
+                    : significand * EXACT_POWERS_OF_TEN[powerOfTen];
+            return negative ? -value : value;
+        }
+
+        long mantissa;
+        int power2;
+        if (significand == 0 || powerOfTen < SMALLEST_POWER_OF_TEN) {
+            mantissa = 0;
+            power2 = 0;
+        } else if (powerOfTen > LARGEST_POWER_OF_TEN) {
+            mantissa = 0;
+            power2 = INFINITE_POWER;
+        } else {
+            int leadingZeros = Long.numberOfLeadingZeros(significand);
+            long normalised = significand << leadingZeros;
+
+            int tableIndex = 2 * (powerOfTen - SMALLEST_POWER_OF_TEN);
+            long productHigh = unsignedMultiplyHigh(normalised, PowersOfFive.TABLE[tableIndex]);
+            long productLow = normalised * PowersOfFive.TABLE[tableIndex];
+            if ((productHigh & PRECISION_MASK) == PRECISION_MASK) {
+                long secondHigh = unsignedMultiplyHigh(normalised, PowersOfFive.TABLE[tableIndex + 1]);
+                productLow += secondHigh;
+                if (Long.compareUnsigned(secondHigh, productLow) > 0) {
+                    productHigh++;
+                }
+            }
+            if (productLow == -1L && (powerOfTen < -27 || powerOfTen > 55)) {
+                // The truncated power of five wasn't precise enough to be sure which way this rounds.
+                return Double.NaN;
+            }
+
+            int upperBit = (int) (productHigh >>> 63);
+            int shift = upperBit + 64 - MANTISSA_EXPLICIT_BITS - 3;
+            mantissa = productHigh >>> shift;
+            power2 = (int) (binaryPowerOf(powerOfTen) + upperBit - leadingZeros - MINIMUM_EXPONENT);
+
+            if (power2 <= 0) {
+                // Subnormal
+                if (-power2 + 1 >= 64) {
+                    mantissa = 0;
+                    power2 = 0;
+                } else {
+                    mantissa >>>= -power2 + 1;
+                    mantissa += mantissa & 1;
+                    mantissa >>>= 1;
+                    power2 = mantissa < (1L << MANTISSA_EXPLICIT_BITS) ? 0 : 1;
+                }
+            } else {
+                if (Long.compareUnsigned(productLow, 1) <= 0
+                        && powerOfTen >= MIN_EXPONENT_ROUND_TO_EVEN && powerOfTen <= MAX_EXPONENT_ROUND_TO_EVEN
+                        && (mantissa & 3) == 1 && (mantissa << shift) == productHigh) {
+                    // Exactly halfway between two doubles, so round to even rather than up.
+                    mantissa &= ~1L;
+                }
+                mantissa += mantissa & 1;
+                mantissa >>>= 1;
+                if (mantissa >= (2L << MANTISSA_EXPLICIT_BITS)) {
+                    mantissa = 1L << MANTISSA_EXPLICIT_BITS;
+                    power2++;
+                }
+                mantissa &= ~(1L << MANTISSA_EXPLICIT_BITS);
+                if (power2 >= INFINITE_POWER) {
+                    mantissa = 0;
+                    power2 = INFINITE_POWER;
+                }
+            }
+        }
+
+        long bits = mantissa | ((long) power2 << MANTISSA_EXPLICIT_BITS);
+        if (negative) {
+            bits |= Long.MIN_VALUE;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static long binaryPowerOf(int powerOfTen) {
+        // floor(log2(10^q)) + 63, exact over the whole supported range.
+        return (((152170L + 65536L) * powerOfTen) >> 16) + 63;
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    private static final class PowersOfFive {
+
+        // Pairs of (high, low) 64 bit words holding 5^q, normalised to 128 bits, for every supported q.
+        private static final long[] TABLE = createTable();
+
+        private static long[] createTable() {
+            BigInteger twoTo128 = BigInteger.ONE.shiftLeft(128);
+            BigInteger twoTo127 = BigInteger.ONE.shiftLeft(127);
+            BigInteger lowMask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+            long[] table = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+
+            for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+                BigInteger entry;
+                if (q < 0) {
+                    // A rounded up reciprocal of 5^-q.
+                    BigInteger powerOfFive = BigInteger.valueOf(5).pow(-q);
+                    int bitsForPower = powerOfFive.subtract(BigInteger.ONE).bitLength();
+                    int shift = q >= -27 ? bitsForPower + 127 : 2 * bitsForPower + 128;
+                    entry = BigInteger.ONE.shiftLeft(shift).divide(powerOfFive).add(BigInteger.ONE);
+                } else {
+                    entry = BigInteger.valueOf(5).pow(q);
+                    if (entry.compareTo(twoTo127) < 0) {
+                        entry = entry.shiftLeft(127 - entry.bitLength() + 1);
+                    }
+                }
+                // Truncate down to 128 bits.
+                if (entry.compareTo(twoTo128) >= 0) {
+                    entry = entry.shiftRight(entry.bitLength() - 128);
+                }
+                int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+                table[index] = entry.shiftRight(64).longValue();
+                table[index + 1] = entry.and(lowMask).longValue();
+            }
+            return table;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.clumd.projects.javajson.core;
+
+import java.util.Arrays;
+
+/**
+ * The line breaks, and breaks after a comma, which start each line of pretty output at a given level of indentation.
+ * Each is made the first time that level is reached, and then reused for every other line at the same level.
+ */
+final class Indents {
+
+    private static final int INITIAL_LEVELS = 8;
+
+    private final int width;
+    private String[] newLines = new String[INITIAL_LEVELS];
+    private String[] separators = new String[INITIAL_LEVELS];
+
+    Indents(int width) {
+        // Always at least one space, however narrow the width asked for.
+        this.width = Math.max(width, 1);
+    }
+
+    String newLineAt(int level) {
+        if (level >= newLines.length || newLines[level] == null) {
+            fill(level);
+        }
+        return newLines[level];
+    }
+
+    String separatorAt(int level) {
+        if (level >= separators.length || separators[level] == null) {
+            fill(level);
+        }
+        return separators[level];
+    }
+
+    private void fill(int level) {
+        if (level >= newLines.length) {
+            int levels = Math.max(level + 1, newLines.length * 2);
+            newLines = Arrays.copyOf(newLines, levels);
+            separators = Arrays.copyOf(separators, levels);
+        }
+        String newLine = "\n" + " ".repeat(level * width);
+        newLines[level] = newLine;
+        separators[level] = "," + newLine;
+    }
+}
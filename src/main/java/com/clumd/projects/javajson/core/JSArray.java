@@ -2,18 +2,61 @@ package com.clumd.projects.javajson.core;
 
 import com.clumd.projects.javajson.api.Json;
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
 import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 final class JSArray extends com.clumd.projects.javajson.core.Json {
 
-    private final List<Json> myValue;
+    private List<Json> myValue;
+    // Set instead of myValue when the elements are stored as columns, or as primitive numbers.
+    private RecordColumns columns;
+    private NumberElements numbers;
+    private transient volatile JsonTape lazySource;
+    private transient int lazySourceIndex;
+    private transient Memo memo;
 
     JSArray(JsonTape parsingTape) throws JsonParseException {
         super(parsingTape);
         jsType = JSType.ARRAY;
+        memo = parsingTape.newMemo();
+
+        if (parsingTape.isLazy()) {
+            // Only remember where we are, the children are parsed when they are first asked for.
+            lazySource = parsingTape;
+            lazySourceIndex = parsingTape.getCurrentIndex();
+            parsingTape.skipElement();
+            return;
+        }
+        parseChildren(parsingTape);
+    }
+
+    private void parseChildren(JsonTape parsingTape) throws JsonParseException {
+        parseElements(parsingTape);
+        if (numbers == null && parsingTape.isColumnarRecords() && myValue.size() > 1) {
+            columns = RecordColumns.of(myValue);
+            if (columns != null) {
+                myValue = null;
+            }
+        }
+    }
+
+    private void parseElements(JsonTape parsingTape) throws JsonParseException {
+        List<Json> parallelElements = parsingTape.parseArrayElementsInParallel();
+        if (parallelElements != null) {
+            numbers = NumberElements.of(parallelElements);
+            myValue = numbers == null ? parallelElements : null;
+            return;
+        }
+        int expectedElements = parsingTape.countElementsOfCurrentContainer();
         char checkingChar;
 
         // Skip over the array opener
@@ -28,17 +71,37 @@ final class JSArray extends com.clumd.projects.javajson.core.Json {
                     "Missing Valid JSON at start of array."
             );
         }
-        myValue = new ArrayList<>();
         if (checkingChar == ']') {
+            myValue = new ArrayList<>();
             parsingTape.consumeOne();
             return;
         }
 
 
-        // Parse array
+        // Parse array, keeping numbers as primitives for as long as they all have the same type.
         boolean moreChildren = true;
         while (moreChildren) {
-            myValue.add(parsingTape.parseNextElement());
+            if (myValue == null && parsingTape.isAtNumber()) {
+                JSType numberType = parsingTape.scanNumber();
+                if (numbers == null) {
+                    numbers = new NumberElements(numberType, expectedElements);
+                }
+                if (!numbers.add(numberType, parsingTape)) {
+                    myValue = numbers.toNodes(expectedElements);
+                    myValue.add(numberType == JSType.LONG
+                            ? JSNumber.of(parsingTape.scannedLong())
+                            : JSNumber.of(parsingTape.scannedDouble()));
+                    numbers = null;
+                }
+            } else {
+                if (myValue == null) {
+                    myValue = numbers == null
+                            ? (expectedElements > 0 ? new ArrayList<>(expectedElements) : new ArrayList<>())
+                            : numbers.toNodes(expectedElements);
+                    numbers = null;
+                }
+                myValue.add(parsingTape.parseNextElement());
+            }
             parsingTape.consumeWhiteSpace();
             checkingChar = parsingTape.consumeOne();
             switch (checkingChar) {
@@ -55,11 +118,94 @@ final class JSArray extends com.clumd.projects.javajson.core.Json {
                         "Invalid array child delimiter.");
             }
         }
+        if (numbers != null) {
+            numbers.trimToSize();
+        }
+    }
+
+    private List<Json> children() {
+        if (lazySource != null) {
+            materialise();
+        }
+        if (columns != null) {
+            return columns.asRecords();
+        }
+        return numbers != null ? numbers.asList() : myValue;
+    }
+
+    RecordColumns columns() {
+        children();
+        if (columns != null) {
+            return columns;
+        }
+        RecordColumns built = RecordColumns.of(children());
+        if (built == null) {
+            throw new KeyDifferentTypeException("This array does not hold records which all have the same keys, "
+                    + "with the same type of value for each key.");
+        }
+        return built;
+    }
+
+    long[] toLongArray() {
+        List<Json> elements = children();
+        if (numbers != null && numbers.type() == JSType.LONG) {
+            return numbers.toLongArray();
+        }
+        long[] values = new long[elements.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = numberAt(elements, index, JSType.LONG).getLong();
+        }
+        return values;
+    }
+
+    double[] toDoubleArray() {
+        List<Json> elements = children();
+        if (numbers != null && numbers.type() == JSType.DOUBLE) {
+            return numbers.toDoubleArray();
+        }
+        double[] values = new double[elements.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = numberAt(elements, index, JSType.DOUBLE).getDouble();
+        }
+        return values;
+    }
+
+    LongStream toLongStream() {
+        // Streams straight over the primitives when we have them, without copying.
+        children();
+        return numbers != null && numbers.type() == JSType.LONG ? numbers.longStream() : Arrays.stream(toLongArray());
+    }
+
+    DoubleStream toDoubleStream() {
+        children();
+        return numbers != null && numbers.type() == JSType.DOUBLE ? numbers.doubleStream() : Arrays.stream(toDoubleArray());
+    }
+
+    private static Json numberAt(List<Json> elements, int index, JSType requiredType) {
+        Json element = elements.get(index);
+        if (element.getDataType() != requiredType) {
+            throw new KeyDifferentTypeException("The Type of element [" + index + "] was not expected. Expected: "
+                    + requiredType + "  ->  Received: " + element.getDataType());
+        }
+        return element;
+    }
+
+    private synchronized void materialise() {
+        if (lazySource != null) {
+            parseChildren(lazySource.forkAt(lazySourceIndex));
+            lazySource = null;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // The source tape is not kept when serialised, so we must have our children by now.
+        children();
+        out.defaultWriteObject();
     }
 
     @Override
     public List<Json> getValue() {
-        return myValue;
+        return children();
     }
 
     @Override
@@ -82,19 +228,42 @@ final class JSArray extends com.clumd.projects.javajson.core.Json {
         if (!nextKey.startsWith("[")) {
             throw keySequence.createKeyDifferentTypeException();
         }
+        int index = Integer.parseInt(nextKey.substring(1));
+        List<Json> elements = children();
+        String cellKey = keySequence.peekNextKey();
+        if (columns != null && (cellKey.startsWith("{") || cellKey.startsWith("<"))) {
+            // Straight to the cell, only building the record if it has no such key, to give the exact error.
+            com.clumd.projects.javajson.core.Json cell = columns.cellAt(index, cellKey.substring(1));
+            if (cell != null) {
+                keySequence.getNextKey();
+                return cell.getInternal(keySequence);
+            }
+        }
         com.clumd.projects.javajson.core.Json childElement;
         try {
-            childElement = (com.clumd.projects.javajson.core.Json) myValue.get(Integer.parseInt(nextKey.substring(1)));
+            childElement = (com.clumd.projects.javajson.core.Json) elements.get(index);
         } catch (IndexOutOfBoundsException e) {
             throw keySequence.createKeyNotFoundException();
         }
         return childElement.getInternal(keySequence);
     }
 
+    @Override
+    com.clumd.projects.javajson.core.Json childAt(int index) {
+        List<Json> elements = children();
+        return index < elements.size() ? (com.clumd.projects.javajson.core.Json) elements.get(index) : null;
+    }
+
+    @Override
+    com.clumd.projects.javajson.core.Json childAt(int index, String key) {
+        children();
+        return columns != null ? columns.cellAt(index, key) : super.childAt(index, key);
+    }
+
     @Override
     public List<String> getKeys() {
         ArrayList<String> ret = new ArrayList<>();
-        for (int i = 0; i < myValue.size(); i++) {
+        for (int i = 0; i < children().size(); i++) {
             ret.add(String.valueOf(i));
         }
         return ret;
@@ -106,51 +275,127 @@ final class JSArray extends com.clumd.projects.javajson.core.Json {
     }
 
     @Override
-    public String asString(int depth) {
+    protected void asString(Appendable result, int depth) throws IOException {
+        // Kept text is only ever the full text, so only usable when the depth wouldn't cut any of it short.
+        String kept = memo != null && depth > height() ? memo.compact() : null;
+        if (kept != null) {
+            result.append(kept);
+        } else {
+            asUnmemoisedString(result, depth);
+        }
+    }
+
+    @Override
+    Memo memo() {
+        return memo;
+    }
+
+    private void asUnmemoisedString(Appendable result, int depth) throws IOException {
         //if this is an empty array, then be sensible
-        if (myValue.isEmpty()) {
-            return "[]";
+        if (children().isEmpty()) {
+            result.append("[]");
+            return;
         }
 
-        StringBuilder ret = new StringBuilder("[");
+        result.append('[');
 
         //if the depth is already too low, display the number of elements we contain
         if (depth == 0) {
-            return ret.append("<").append(myValue.size()).append(">]").toString();
+            result.append('<').append(String.valueOf(children().size())).append('>');
+        }
+        // numbers kept as primitives are written without making a node for each
+        else if (numbers != null) {
+            numbers.asString(result, ",");
         }
-        //pass down the next value of depth to all children and get their strings
+        //pass down the next value of depth to all children, each writing straight into the result
         else {
-            for (Json value : myValue) {
-                ret.append(value.asString(depth - 1)).append(",");
+            boolean first = true;
+            for (Json value : children()) {
+                if (!first) {
+                    result.append(',');
+                }
+                first = false;
+                ((com.clumd.projects.javajson.core.Json) value).asString(result, depth - 1);
             }
-            if (ret.charAt(ret.length() - 1) == ',') {
-                ret.deleteCharAt(ret.length() - 1);
+        }
+        result.append(']');
+    }
+
+    @Override
+    int height() {
+        return memo != null ? memo.height(this::measureHeight) : measureHeight();
+    }
+
+    private int measureHeight() {
+        int deepestElement = 0;
+        if (numbers == null) {
+            for (Json element : children()) {
+                deepestElement = Math.max(deepestElement, ((com.clumd.projects.javajson.core.Json) element).height());
             }
-            return ret.append("]").toString();
         }
+        return deepestElement + 1;
     }
 
     @Override
-    protected void asPrettyString(StringBuilder indent, String tabSize, StringBuilder result, int depth) {
-        if (myValue.isEmpty()) {
+    protected long utf8Length() {
+        // Brackets, plus a comma between each element.
+        List<Json> elements = children();
+        long length = elements.isEmpty() ? 2 : 1 + elements.size();
+        if (numbers != null) {
+            return length + numbers.utf8Length();
+        }
+        for (Json element : elements) {
+            length += ((com.clumd.projects.javajson.core.Json) element).utf8Length();
+        }
+        return length;
+    }
+
+    @Override
+    protected void asUtf8(ByteBuffer result) {
+        result.put((byte) '[');
+        List<Json> elements = children();
+        if (numbers != null) {
+            numbers.asUtf8(result);
+        } else {
+            for (int index = 0; index < elements.size(); index++) {
+                if (index > 0) {
+                    result.put((byte) ',');
+                }
+                ((com.clumd.projects.javajson.core.Json) elements.get(index)).asUtf8(result);
+            }
+        }
+        result.put((byte) ']');
+    }
+
+    @Override
+    protected void asPrettyString(Appendable result, Indents indents, int level, int depth) throws IOException {
+        if (children().isEmpty()) {
             result.append("[]");
             return;
         }
 
-        indent.append(tabSize);
-        result.append('[').append('\n').append(indent);
+        result.append('[').append(indents.newLineAt(level + 1));
         if (depth == 0) {
-            result.append("<").append(myValue.size()).append(">");
+            result.append('<').append(String.valueOf(children().size())).append('>');
         } else {
-            myValue.forEach(value -> {
-                ((com.clumd.projects.javajson.core.Json) value).asPrettyString(indent, tabSize, result, depth - 1);
-                result.append(",\n").append(indent);
-            });
-            result.delete(result.length() - 2 - indent.length(), result.length() - 1);
+            // Each separator is written before the next element, so there is never one to take back off the end.
+            if (numbers != null) {
+                numbers.asString(result, indents.separatorAt(level + 1));
+            } else {
+                boolean first = true;
+                for (Json element : children()) {
+                    if (!first) {
+                        result.append(indents.separatorAt(level + 1));
+                    }
+                    first = false;
+                    ((com.clumd.projects.javajson.core.Json) element).asPrettyString(result, indents, level + 1, depth - 1);
+                }
+            }
+            // The last element has always been followed by a space.
+            result.append(' ');
         }
 
-        indent.delete(0, tabSize.length());
-        result.append("\n").append(indent).append(']');
+        result.append(indents.newLineAt(level)).append(']');
     }
 
     @Override
@@ -164,22 +409,25 @@ final class JSArray extends com.clumd.projects.javajson.core.Json {
 
         if (other instanceof List<?> o) {
 
-            if (this.myValue.size() != o.size()) {
+            if (children().size() != o.size()) {
                 return false;
             }
-            for (int i = 0; i < this.myValue.size(); i++) {
-                if (!(this.myValue.get(i).equals(o.get(i)))) {
+            for (int i = 0; i < children().size(); i++) {
+                if (!(children().get(i).equals(o.get(i)))) {
                     return false;
                 }
             }
         } else {
             JSArray o = (JSArray) other;
 
-            if (this.myValue.size() != o.myValue.size()) {
+            if (memo != null && o.memo != null && hashCode() != o.hashCode()) {
+                return false;
+            }
+            if (children().size() != o.children().size()) {
                 return false;
             }
-            for (int i = 0; i < this.myValue.size(); i++) {
-                if (!(this.myValue.get(i).equals(o.myValue.get(i)))) {
+            for (int i = 0; i < children().size(); i++) {
+                if (!(children().get(i).equals(o.children().get(i)))) {
                     return false;
                 }
             }
@@ -190,6 +438,6 @@ final class JSArray extends com.clumd.projects.javajson.core.Json {
 
     @Override
     public int hashCode() {
-        return myValue.hashCode();
+        return memo != null ? memo.hashCode(() -> children().hashCode()) : children().hashCode();
     }
 }
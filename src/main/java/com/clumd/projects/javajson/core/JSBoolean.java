@@ -2,27 +2,25 @@ package com.clumd.projects.javajson.core;
 
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 final class JSBoolean extends Json {
 
-    private boolean myValue;
+    static final JSBoolean TRUE = new JSBoolean(true);
+    static final JSBoolean FALSE = new JSBoolean(false);
+
+    private final boolean myValue;
 
-    JSBoolean(JsonTape parsingTape) throws JsonParseException {
-        super(parsingTape);
+    private JSBoolean(boolean value) {
+        super(null);
         jsType = JSType.BOOLEAN;
+        myValue = value;
+    }
 
-        if (parsingTape.checkNextFragment("true")
-                || parsingTape.checkNextFragment("True")
-                || parsingTape.checkNextFragment("TRUE")
-        ) {
-            myValue = true;
-        } else if (parsingTape.checkNextFragment("false")
-                || parsingTape.checkNextFragment("False")
-                || parsingTape.checkNextFragment("FALSE")
-        ) {
-            myValue = false;
-        } else {
-            parsingTape.createParseError("true / false");
-        }
+    static JSBoolean parse(JsonTape parsingTape) throws JsonParseException {
+        // There are only two possible values, so every boolean in every document shares them.
+        return parsingTape.scanBoolean() ? TRUE : FALSE;
     }
 
     @Override
@@ -31,8 +29,18 @@ final class JSBoolean extends Json {
     }
 
     @Override
-    public String asString(int depth) {
-        return String.valueOf(myValue);
+    protected void asString(Appendable result, int depth) throws IOException {
+        result.append(myValue ? "true" : "false");
+    }
+
+    @Override
+    protected long utf8Length() {
+        return myValue ? 4 : 5;
+    }
+
+    @Override
+    protected void asUtf8(ByteBuffer result) {
+        Utf8.writeAscii(myValue ? "true" : "false", result);
     }
 
     @Override
@@ -3,56 +3,58 @@ package com.clumd.projects.javajson.core;
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 final class JSNumber extends Json {
 
-    private Long myLongValue;
-    private Double myDoubleValue;
-
-    JSNumber(JsonTape parsingTape) throws JsonParseException {
-        super(parsingTape);
-        int numberStartIndex = parsingTape.getCurrentIndex();
-
-        boolean foundEnd = false;
-        boolean isFloating = false;
-
-        while (!foundEnd) {
-            try {
-                switch (parsingTape.checkCurrentChar()) {
-                    case '.', 'e', 'E':
-                        isFloating = true;
-                        // Fallthrough to still consume the char we just checked.
-                    case '-', '+', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9':
-                        parsingTape.consumeOne();
-                        break;
-                    default:
-                        foundEnd = true;
-                }
-            } catch (IndexOutOfBoundsException e) {
-                foundEnd = true;
-            }
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+    private static final JSNumber[] SMALL_LONGS = new JSNumber[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int value = CACHE_LOW; value <= CACHE_HIGH; value++) {
+            SMALL_LONGS[value - CACHE_LOW] = new JSNumber(JSType.LONG, value);
         }
-        String numberString = parsingTape.requestRegion(numberStartIndex, parsingTape.getCurrentIndex());
-
-        try {
-            if (isFloating) {
-                this.myDoubleValue = Double.parseDouble(numberString);
-                jsType = JSType.DOUBLE;
-            } else {
-                this.myLongValue = Long.parseLong(numberString);
-                jsType = JSType.LONG;
-            }
-        } catch (NumberFormatException e) {
-            throw parsingTape.createParseError("<number>",
-                    e.getMessage().replaceFirst("For input string", "Invalid number format"));
+    }
+
+    // A long, or the raw bits of a double, depending on jsType.
+    private final long myValue;
+
+    private JSNumber(JSType type, long value) {
+        super(null);
+        jsType = type;
+        myValue = value;
+    }
+
+    static JSNumber parse(JsonTape parsingTape) throws JsonParseException {
+        return parsingTape.scanNumber() == JSType.LONG
+                ? of(parsingTape.scannedLong())
+                : of(parsingTape.scannedDouble());
+    }
+
+    static JSNumber of(long value) {
+        // Small integers are so common that they all share one immutable node each.
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return SMALL_LONGS[(int) value - CACHE_LOW];
         }
+        return new JSNumber(JSType.LONG, value);
+    }
+
+    static JSNumber of(double value) {
+        return new JSNumber(JSType.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    private double doubleValue() {
+        return Double.longBitsToDouble(myValue);
     }
 
     @Override
     public Number getValue() {
-        if (myLongValue == null) {
-            return myDoubleValue;
+        if (jsType == JSType.DOUBLE) {
+            return doubleValue();
         } else {
-            return myLongValue;
+            return myValue;
         }
     }
 
@@ -61,7 +63,7 @@ final class JSNumber extends Json {
         if (jsType.equals(JSType.LONG)) {
             throw new KeyDifferentTypeException("This number is a long, not a double.");
         }
-        return myDoubleValue;
+        return doubleValue();
     }
 
     @Override
@@ -69,15 +71,29 @@ final class JSNumber extends Json {
         if (jsType.equals(JSType.DOUBLE)) {
             throw new KeyDifferentTypeException("This number is a double, not a long.");
         }
-        return myLongValue;
+        return myValue;
+    }
+
+
+    @Override
+    protected void asString(Appendable result, int depth) throws IOException {
+        result.append(jsType == JSType.DOUBLE
+                ? String.valueOf(doubleValue())
+                : String.valueOf(myValue));
     }
 
+    @Override
+    protected long utf8Length() {
+        return jsType == JSType.DOUBLE ? String.valueOf(doubleValue()).length() : Utf8.longLength(myValue);
+    }
 
     @Override
-    public String asString(int depth) {
-        return myLongValue == null
-                ? String.valueOf(myDoubleValue)
-                : String.valueOf(myLongValue);
+    protected void asUtf8(ByteBuffer result) {
+        if (jsType == JSType.DOUBLE) {
+            Utf8.writeAscii(String.valueOf(doubleValue()), result);
+        } else {
+            Utf8.writeLong(myValue, result);
+        }
     }
 
     @Override
@@ -89,27 +105,22 @@ final class JSNumber extends Json {
             return true;
         }
 
-        if (myLongValue != null) {
-            if (other instanceof JSNumber jsNum) {
-                return myLongValue.equals(jsNum.myLongValue);
-            } else if (other instanceof Long) {
-                return myLongValue.equals(other);
-            }
+        if (other instanceof JSNumber jsNum) {
+            // Doubles compare as Double.equals does, so NaN equals itself but 0.0 does not equal -0.0.
+            return jsType == jsNum.jsType && (jsType == JSType.LONG
+                    ? myValue == jsNum.myValue
+                    : Double.doubleToLongBits(doubleValue()) == Double.doubleToLongBits(jsNum.doubleValue()));
         }
-        if (myDoubleValue != null) {
-            if (other instanceof JSNumber jsNum) {
-                return myDoubleValue.equals(jsNum.myDoubleValue);
-            } else if (other instanceof Double) {
-                return myDoubleValue.equals(other);
-            }
+        if (jsType == JSType.LONG) {
+            return other instanceof Long otherLong && myValue == otherLong;
         }
-        return false;
+        return other instanceof Double otherDouble && Double.valueOf(doubleValue()).equals(otherDouble);
     }
 
     @Override
     public int hashCode() {
-        return myLongValue == null
-                ? Double.hashCode(myDoubleValue)
-                : Long.hashCode(myLongValue);
+        return jsType == JSType.DOUBLE
+                ? Double.hashCode(doubleValue())
+                : Long.hashCode(myValue);
     }
 }
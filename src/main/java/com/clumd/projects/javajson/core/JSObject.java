@@ -4,19 +4,44 @@ import com.clumd.projects.javajson.api.Json;
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 final class JSObject extends com.clumd.projects.javajson.core.Json {
 
-    private final HashMap<String, Json> json;
+    private CompactObjectMap json;
+    private transient volatile JsonTape lazySource;
+    private transient int lazySourceIndex;
+    private transient Memo memo;
 
     JSObject(JsonTape parsingTape) throws JsonParseException {
         super(parsingTape);
         jsType = JSType.OBJECT;
+        memo = parsingTape.newMemo();
+
+        if (parsingTape.isLazy()) {
+            // Only remember where we are, the children are parsed when they are first asked for.
+            lazySource = parsingTape;
+            lazySourceIndex = parsingTape.getCurrentIndex();
+            parsingTape.skipElement();
+            return;
+        }
+        parseChildren(parsingTape);
+    }
+
+    JSObject(CompactObjectMap children) {
+        super(null);
+        jsType = JSType.OBJECT;
+        json = children;
+    }
+
+    private void parseChildren(JsonTape parsingTape) throws JsonParseException {
         char checkingChar;
+        int expectedChildren = parsingTape.countElementsOfCurrentContainer();
 
         // Skip over the object opener
         parsingTape.consumeOne();
@@ -24,9 +49,10 @@ final class JSObject extends com.clumd.projects.javajson.core.Json {
         checkingChar = parsingTape.checkCurrentChar();
 
         // Initial Object parsing Checks
-        json = new HashMap<>();
+        json = new CompactObjectMap(parsingTape.rootObjectShape(), expectedChildren);
         if (checkingChar == '}') {
             parsingTape.consumeOne();
+            json.trimToSize();
             return;
         }
         if (checkingChar != '"' && checkingChar != '\'') {
@@ -38,13 +64,7 @@ final class JSObject extends com.clumd.projects.javajson.core.Json {
         boolean moreChildren = true;
         while (moreChildren) {
             // Get the Key
-            String key;
-            try {
-                key = ((JSString)parsingTape.parseNextElement()).getValue();
-            } catch (ClassCastException e) {
-                throw parsingTape.createParseErrorFromOffset(-1, "\"", "Invalid type for object key.");
-            }
-            assert key != null;
+            String key = parsingTape.parseObjectKey();
             validateObjectKey(key, parsingTape);
 
             // Validate Colon
@@ -61,7 +81,10 @@ final class JSObject extends com.clumd.projects.javajson.core.Json {
             parsingTape.consumeWhiteSpace();
             checkingChar = parsingTape.consumeOne();
             switch (checkingChar) {
-                case '}' -> moreChildren = false;
+                case '}' -> {
+                    moreChildren = false;
+                    json.trimToSize();
+                }
                 case ',' -> {
                     // Validate if we see a comma, there are more children to come
                     parsingTape.consumeWhiteSpace();
@@ -88,6 +111,31 @@ final class JSObject extends com.clumd.projects.javajson.core.Json {
         }
     }
 
+    CompactObjectMap children() {
+        if (lazySource != null) {
+            materialise();
+        }
+        return json;
+    }
+
+    ObjectShape shape() {
+        // Null once there are too many children to share a shape.
+        return children().shape();
+    }
+
+    private synchronized void materialise() {
+        if (lazySource != null) {
+            parseChildren(lazySource.forkAt(lazySourceIndex));
+            lazySource = null;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // The source tape is not kept when serialised, so we must have our children by now.
+        children();
+        out.defaultWriteObject();
+    }
+
     @Override
     public Json getValue() {
         return this;
@@ -112,89 +160,151 @@ final class JSObject extends com.clumd.projects.javajson.core.Json {
         if (!nextKey.startsWith("{") && !nextKey.startsWith("<")) {
             throw keySequence.createKeyDifferentTypeException();
         }
-        com.clumd.projects.javajson.core.Json childElement = (com.clumd.projects.javajson.core.Json) json.get(nextKey.substring(1));
+        com.clumd.projects.javajson.core.Json childElement = (com.clumd.projects.javajson.core.Json) children().get(nextKey.substring(1));
         if (childElement == null) {
             throw keySequence.createKeyNotFoundException();
         }
         return childElement.getInternal(keySequence);
     }
 
+    @Override
+    com.clumd.projects.javajson.core.Json childByKey(String key) {
+        return (com.clumd.projects.javajson.core.Json) children().get(key);
+    }
+
     @Override
     public List<String> getKeys() {
-        return new ArrayList<>(json.keySet());
+        return new ArrayList<>(children().keySet());
     }
 
     @Override
     public List<Json> getValues() {
-        return new ArrayList<>(json.values());
+        return new ArrayList<>(children().values());
+    }
+
+    @Override
+    protected void asString(Appendable result, int depth) throws IOException {
+        // Kept text is only ever the full text, so only usable when the depth wouldn't cut any of it short.
+        String kept = memo != null && depth > height() ? memo.compact() : null;
+        if (kept != null) {
+            result.append(kept);
+        } else {
+            asUnmemoisedString(result, depth);
+        }
     }
 
     @Override
-    public String asString(int depth) {
-        StringBuilder ret = new StringBuilder("{");
+    Memo memo() {
+        return memo;
+    }
+
+    private void asUnmemoisedString(Appendable result, int depth) throws IOException {
+        result.append('{');
 
         //empty object
-        if (json.size() == 0) {
-            return ret.append('}').toString();
+        if (children().isEmpty()) {
+            result.append('}');
+            return;
         }
         // just print the boilerplate object stuff
         else if (depth == 0) {
-            getKeysAsCompressedForString(ret);
-            return ret.append('}').toString();
+            result.append('<').append(String.join(",", children().keySet())).append('>').append('}');
+            return;
         }
 
-        //print the full internals based on the next depth though
-        for (Map.Entry<String, Json> entry : json.entrySet()) {
-            ret
-                    .append("\"")
-                    .append(entry.getKey().replaceAll("\\\\", "\\\\\\\\").replaceAll("\"", "\\\\\""))
-                    .append("\"").append(":")
-                    .append(entry.getValue().asString(depth - 1)).append(",");
+        //print the full internals based on the next depth though, each child straight into the result
+        boolean first = true;
+        for (Map.Entry<String, Json> entry : children().entrySet()) {
+            if (!first) {
+                result.append(',');
+            }
+            first = false;
+            result.append(quotedKey(entry.getKey())).append(':');
+            ((com.clumd.projects.javajson.core.Json) entry.getValue()).asString(result, depth - 1);
         }
 
-        if (ret.charAt(ret.length() - 1) == ',') {
-            ret.deleteCharAt(ret.length() - 1);
-        }
+        result.append('}');
+    }
+
+    @Override
+    int height() {
+        return memo != null ? memo.height(this::measureHeight) : measureHeight();
+    }
 
-        return ret.append("}").toString();
+    private int measureHeight() {
+        int deepestChild = 0;
+        for (Json child : children().values()) {
+            deepestChild = Math.max(deepestChild, ((com.clumd.projects.javajson.core.Json) child).height());
+        }
+        return deepestChild + 1;
     }
 
-    private void getKeysAsCompressedForString(StringBuilder stringBuilder) {
-        stringBuilder.append('<');
+    @Override
+    protected long utf8Length() {
+        // Braces, plus a comma between each child and a colon after each key.
+        long length = children().isEmpty() ? 2 : 1 + 2L * children().size();
+        for (Map.Entry<String, Json> entry : children().entrySet()) {
+            length += quotedUtf8Key(entry.getKey()).length;
+            length += ((com.clumd.projects.javajson.core.Json) entry.getValue()).utf8Length();
+        }
+        return length;
+    }
 
-        String[] keys = new String[json.size()];
-        json.keySet().toArray(keys);
-        for (int i = 0; i < keys.length - 1; i++) {
-            stringBuilder.append(keys[i]).append(',');
+    @Override
+    protected void asUtf8(ByteBuffer result) {
+        result.put((byte) '{');
+        boolean first = true;
+        for (Map.Entry<String, Json> entry : children().entrySet()) {
+            if (!first) {
+                result.put((byte) ',');
+            }
+            first = false;
+            result.put(quotedUtf8Key(entry.getKey()));
+            result.put((byte) ':');
+            ((com.clumd.projects.javajson.core.Json) entry.getValue()).asUtf8(result);
         }
-        stringBuilder.append(keys[keys.length - 1]).append(">");
+        result.put((byte) '}');
+    }
+
+    private String quotedKey(String key) {
+        // Objects sharing a shape share its escaped keys, so they are only escaped once.
+        ObjectShape shape = children().shape();
+        int slot = shape != null ? shape.slotOf(key) : -1;
+        return slot >= 0 ? shape.quotedKeyAt(slot) : JsonEscaper.quoted(key);
+    }
+
+    private byte[] quotedUtf8Key(String key) {
+        ObjectShape shape = children().shape();
+        int slot = shape != null ? shape.slotOf(key) : -1;
+        return slot >= 0 ? shape.quotedUtf8KeyAt(slot) : Utf8.quoted(key);
     }
 
     @Override
-    protected void asPrettyString(StringBuilder indent, String tabSize, StringBuilder result, int depth) {
-        if (json.isEmpty()) {
+    protected void asPrettyString(Appendable result, Indents indents, int level, int depth) throws IOException {
+        if (children().isEmpty()) {
             result.append("{}");
             return;
         }
 
-        indent.append(tabSize);
-        result.append('{').append('\n').append(indent);
+        result.append('{').append(indents.newLineAt(level + 1));
         if (depth == 0) {
-            getKeysAsCompressedForString(result);
+            result.append('<').append(String.join(",", children().keySet())).append('>');
         } else {
-            json.forEach((key, value) -> {
-                result
-                        .append('"').append(
-                        key.replaceAll("\\\\", "\\\\\\\\").replaceAll("\"", "\\\\\""))
-                        .append("\": ");
-                ((com.clumd.projects.javajson.core.Json) value).asPrettyString(indent, tabSize, result, depth - 1);
-                result.append(",\n").append(indent);
-            });
-            result.delete(result.length() - 2 - indent.length(), result.length() - 1);
+            // Each separator is written before the next child, so there is never one to take back off the end.
+            boolean first = true;
+            for (Map.Entry<String, Json> entry : children().entrySet()) {
+                if (!first) {
+                    result.append(indents.separatorAt(level + 1));
+                }
+                first = false;
+                result.append(quotedKey(entry.getKey())).append(": ");
+                ((com.clumd.projects.javajson.core.Json) entry.getValue()).asPrettyString(result, indents, level + 1, depth - 1);
+            }
+            // The last child has always been followed by a space.
+            result.append(' ');
         }
 
-        indent.delete(0, tabSize.length());
-        result.append("\n").append(indent).append('}');
+        result.append(indents.newLineAt(level)).append('}');
     }
 
     @Override
@@ -208,14 +318,17 @@ final class JSObject extends com.clumd.projects.javajson.core.Json {
 
         JSObject o = (JSObject) other;
 
+        if (memo != null && o.memo != null && hashCode() != o.hashCode()) {
+            return false;
+        }
         if (this.getKeys().size() != o.getKeys().size()) {
             return false;
         }
         for (String key : this.getKeys()) {
-            if (!o.json.containsKey(key)) {
+            if (!o.children().containsKey(key)) {
                 return false;
             }
-            if (!(json.get(key).equals(o.json.get(key)))) {
+            if (!(children().get(key).equals(o.children().get(key)))) {
                 return false;
             }
         }
@@ -225,6 +338,6 @@ final class JSObject extends com.clumd.projects.javajson.core.Json {
 
     @Override
     public int hashCode() {
-        return json.hashCode();
+        return memo != null ? memo.hashCode(() -> children().hashCode()) : children().hashCode();
     }
 }
@@ -2,6 +2,9 @@ package com.clumd.projects.javajson.core;
 
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 final class JSString extends Json {
 
     private final String myValue;
@@ -9,54 +12,13 @@ final class JSString extends Json {
     JSString(JsonTape parsingTape) throws JsonParseException {
         super(parsingTape);
 
-        // Setup tracking variables
-        final char stringDelimiter = parsingTape.checkCurrentChar();
-        if (stringDelimiter != '"' && stringDelimiter != '\'' && stringDelimiter != '`') {
-            throw parsingTape.createParseError("\" / ' / `", stringDelimiter + " is not a valid string delimiter.");
-        }
-        final StringBuilder string = new StringBuilder();
-        boolean currentlyEscaped = false;
-        boolean endFound = false;
-        char currentChar;
-
-        // Consume the initial delimiter
-        parsingTape.consumeOne();
-
-        // Parse the rest of the string
-        while (!endFound) {
-            try {
-                currentChar = parsingTape.consumeOne();
-            } catch (IndexOutOfBoundsException e) {
-                throw parsingTape.createParseErrorFromOffset(
-                        -1,
-                        String.valueOf(stringDelimiter),
-                        "Didn't find matching " + stringDelimiter + ", before end of string."
-                );
-            }
-
-            // Skip over the current character if it was escaped
-            if (currentlyEscaped) {
-                currentlyEscaped = false;
-                string.append(currentChar);
-                continue;
-            }
-
-            // If char is backslash, then indicate we are escaped.
-            if (currentChar == '\\') {
-                currentlyEscaped = true;
-                continue;
-            }
-
-            // If reached end of string, stop, else add to string.
-            if (currentChar == stringDelimiter) {
-                endFound = true;
-            } else {
-                string.append(currentChar);
-            }
-        }
+        myValue = parsingTape.scanString();
+        jsType = JSType.STRING;
+    }
 
-        // finalise result.
-        myValue = string.toString();
+    JSString(String value) {
+        super(null);
+        myValue = value;
         jsType = JSType.STRING;
     }
 
@@ -66,8 +28,18 @@ final class JSString extends Json {
     }
 
     @Override
-    public String asString(int depth) {
-        return "\"" + myValue.replaceAll("\\\\", "\\\\\\\\").replaceAll("\"", "\\\\\"") + "\"";
+    protected void asString(Appendable result, int depth) throws IOException {
+        JsonEscaper.appendQuoted(myValue, result);
+    }
+
+    @Override
+    protected long utf8Length() {
+        return Utf8.quotedLength(myValue);
+    }
+
+    @Override
+    protected void asUtf8(ByteBuffer result) {
+        Utf8.writeQuoted(myValue, result);
     }
 
     @Override
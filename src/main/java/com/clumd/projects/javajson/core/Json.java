@@ -5,13 +5,27 @@ import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
 import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 abstract class Json implements com.clumd.projects.javajson.api.Json {
 
     public static final int DEFAULT_PRETTY_JSON_INDENT_WIDTH = 2;
+    private static final int WRITE_BUFFER_SIZE = 8192;
+    private static final int MAXIMUM_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
 
     protected static final long serialVersionUID = 100L;
     protected JSType jsType = null;
@@ -94,6 +108,31 @@ abstract class Json implements com.clumd.projects.javajson.api.Json {
         return getArrayAt("");
     }
 
+    @Override
+    public RecordColumns getColumns() throws KeyDifferentTypeException {
+        return getColumnsAt("");
+    }
+
+    @Override
+    public long[] getLongArray() throws KeyDifferentTypeException {
+        return getLongArrayAt("");
+    }
+
+    @Override
+    public double[] getDoubleArray() throws KeyDifferentTypeException {
+        return getDoubleArrayAt("");
+    }
+
+    @Override
+    public LongStream getLongStream() throws KeyDifferentTypeException {
+        return getLongStreamAt("");
+    }
+
+    @Override
+    public DoubleStream getDoubleStream() throws KeyDifferentTypeException {
+        return getDoubleStreamAt("");
+    }
+
     @Override
     public boolean getBoolean() throws KeyDifferentTypeException {
         return getBooleanAt("");
@@ -156,6 +195,31 @@ abstract class Json implements com.clumd.projects.javajson.api.Json {
         return ((JSArray) getMatching(key, JSType.ARRAY)).getValue();
     }
 
+    @Override
+    public RecordColumns getColumnsAt(String key) throws JsonException {
+        return ((JSArray) getMatching(key, JSType.ARRAY)).columns();
+    }
+
+    @Override
+    public long[] getLongArrayAt(String key) throws JsonException {
+        return ((JSArray) getMatching(key, JSType.ARRAY)).toLongArray();
+    }
+
+    @Override
+    public double[] getDoubleArrayAt(String key) throws JsonException {
+        return ((JSArray) getMatching(key, JSType.ARRAY)).toDoubleArray();
+    }
+
+    @Override
+    public LongStream getLongStreamAt(String key) throws JsonException {
+        return ((JSArray) getMatching(key, JSType.ARRAY)).toLongStream();
+    }
+
+    @Override
+    public DoubleStream getDoubleStreamAt(String key) throws JsonException {
+        return ((JSArray) getMatching(key, JSType.ARRAY)).toDoubleStream();
+    }
+
     @Override
     public boolean getBooleanAt(String key) throws JsonException {
         return ((JSBoolean) getMatching(key, JSType.BOOLEAN)).getValue();
@@ -181,6 +245,11 @@ abstract class Json implements com.clumd.projects.javajson.api.Json {
         return getMatching(key);
     }
 
+    @Override
+    public Map<String, JsonPathResult> getManyAt(Collection<String> keys) throws JsonException {
+        return JsonPathSet.compile(keys).lookup(this);
+    }
+
 
     //////////////////////////////////////////////////////////////////////////////////////////////////
     private com.clumd.projects.javajson.api.Json getMatching(String key, JSType requiredType) {
@@ -208,12 +277,40 @@ abstract class Json implements com.clumd.projects.javajson.api.Json {
         }
 
         // Check for base level keys
-        if (key.replaceAll("\\s", "").equals("")) {
+        if (JsonKey.isBlank(key)) {
             return this;
         }
 
-        // Attempt deeper retrieval of object from structure.
-        return getInternal(new JsonKey(key, false));
+        // Attempt deeper retrieval of object from structure, walking the string key only to find out what went wrong.
+        JsonPath path = JsonKeyCache.shared().pathOf(key);
+        com.clumd.projects.javajson.api.Json found = path.resolve(this);
+        return found != null ? found : getInternal(JsonKey.forLookup(path));
+    }
+
+    int height() {
+        // How many levels of objects and arrays this contains, including itself.
+        return 0;
+    }
+
+    Json childByKey(String key) {
+        // Null unless this is an object with that key.
+        return null;
+    }
+
+    Json childAt(int index) {
+        // Null unless this is an array with that index.
+        return null;
+    }
+
+    Memo memo() {
+        // Null unless this is an object or array parsed with memoisation.
+        return null;
+    }
+
+    Json childAt(int index, String key) {
+        // Null unless this is an array with that index, holding an object with that key.
+        Json child = childAt(index);
+        return child != null ? child.childByKey(key) : null;
     }
 
     protected com.clumd.projects.javajson.api.Json getInternal(JsonKey keySequence) throws KeyNotFoundException {
@@ -239,6 +336,69 @@ abstract class Json implements com.clumd.projects.javajson.api.Json {
         return asString(Integer.MAX_VALUE);
     }
 
+    @Override
+    public String asString(int depth) {
+        // Only the full text is ever kept, and only here where the whole String is wanted, never for writeTo.
+        Memo memo = depth > height() ? memo() : null;
+        String kept = memo != null ? memo.compact() : null;
+        if (kept != null) {
+            return kept;
+        }
+        StringBuilder result = new StringBuilder();
+        try {
+            asString(result, depth);
+        } catch (IOException e) {
+            // A StringBuilder never throws.
+            throw new UncheckedIOException(e);
+        }
+        String text = result.toString();
+        if (memo != null) {
+            memo.keepCompact(text);
+        }
+        return text;
+    }
+
+    @Override
+    public void writeTo(Appendable destination) throws IOException {
+        asString(destination, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void writeTo(OutputStream destination) throws IOException {
+        // Flushed but not closed, the destination still belongs to the caller.
+        Writer writer = new BufferedWriter(new OutputStreamWriter(destination, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writeTo(writer);
+        writer.flush();
+    }
+
+    protected abstract void asString(Appendable result, int depth) throws IOException;
+
+    @Override
+    public byte[] toUtf8Bytes() {
+        // Sized exactly up front, so the bytes are written once and never copied to grow.
+        long length = utf8Length();
+        if (length > MAXIMUM_ARRAY_LENGTH) {
+            throw new IllegalStateException("This JSON is too large to fit in a single array (" + length + " bytes), "
+                    + "write it to an OutputStream instead.");
+        }
+        byte[] result = new byte[(int) length];
+        asUtf8(ByteBuffer.wrap(result));
+        return result;
+    }
+
+    @Override
+    public void writeUtf8(ByteBuffer destination) {
+        // Checked first so that nothing is written if it will not all fit.
+        if (utf8Length() > destination.remaining()) {
+            throw new BufferOverflowException();
+        }
+        asUtf8(destination);
+    }
+
+    protected abstract long utf8Length();
+
+    protected abstract void asUtf8(ByteBuffer result);
+
     @Override
     public String asPrettyString() {
         return asPrettyString(Integer.MAX_VALUE);
@@ -251,19 +411,29 @@ abstract class Json implements com.clumd.projects.javajson.api.Json {
 
     @Override
     public String asPrettyString(int depth, int indentWidth) {
-        StringBuilder prettyTabSizeBuilder = new StringBuilder();
-        do {
-            prettyTabSizeBuilder.append(' ');
-        } while (indentWidth-- > 1);
-
         StringBuilder result = new StringBuilder();
-        asPrettyString(new StringBuilder(), prettyTabSizeBuilder.toString(), result, depth);
-
+        try {
+            asPrettyString(result, new Indents(indentWidth), 0, depth);
+        } catch (IOException e) {
+            // A StringBuilder never throws.
+            throw new UncheckedIOException(e);
+        }
         return result.toString();
     }
 
-    protected void asPrettyString(StringBuilder indent, String tabSize, StringBuilder result, int depth) {
-        result.append(asString(depth));
+    @Override
+    public void writePrettyTo(Appendable destination) throws IOException {
+        writePrettyTo(destination, DEFAULT_PRETTY_JSON_INDENT_WIDTH);
+    }
+
+    @Override
+    public void writePrettyTo(Appendable destination, int indentWidth) throws IOException {
+        asPrettyString(destination, new Indents(indentWidth), 0, Integer.MAX_VALUE);
+    }
+
+    protected void asPrettyString(Appendable result, Indents indents, int level, int depth) throws IOException {
+        // Only objects and arrays span more than one line.
+        asString(result, depth);
     }
 
 
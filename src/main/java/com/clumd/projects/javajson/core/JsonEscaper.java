@@ -0,0 +1,59 @@
+package com.clumd.projects.javajson.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Escapes Strings for output as JSON, as RFC 8259 requires: quotes, backslashes, and the control characters below
+ * U+0020. Everything else is written as it is. Scans each String once, copying the runs between escapes in one go.
+ */
+final class JsonEscaper {
+
+    // The escaped form of each ASCII character which needs one, and null for all the others.
+    private static final String[] ESCAPES = new String[128];
+
+    static {
+        for (char control = 0; control < 0x20; control++) {
+            ESCAPES[control] = String.format("\\u%04x", (int) control);
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+    private JsonEscaper() {
+    }
+
+    static String escapeOf(char character) {
+        // Null if the character is written as it is.
+        return character < ESCAPES.length ? ESCAPES[character] : null;
+    }
+
+    static void appendQuoted(String value, Appendable result) throws IOException {
+        result.append('"');
+        int cleanFrom = 0;
+        for (int index = 0; index < value.length(); index++) {
+            char next = value.charAt(index);
+            if (next < ESCAPES.length && ESCAPES[next] != null) {
+                result.append(value, cleanFrom, index).append(ESCAPES[next]);
+                cleanFrom = index + 1;
+            }
+        }
+        result.append(value, cleanFrom, value.length()).append('"');
+    }
+
+    static String quoted(String value) {
+        StringBuilder result = new StringBuilder(value.length() + 2);
+        try {
+            appendQuoted(value, result);
+        } catch (IOException e) {
+            // A StringBuilder never throws.
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+}
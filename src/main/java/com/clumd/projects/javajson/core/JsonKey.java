@@ -5,10 +5,7 @@ import com.clumd.projects.javajson.exceptions.json.KeyInvalidException;
 import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 final class JsonKey {
 
@@ -16,21 +13,46 @@ final class JsonKey {
     private int currentCallChainIndex = 0;
 
     JsonKey(String key, boolean useBuilderKeyTape) throws KeyInvalidException {
+        callChain = parseCallChain(key, useBuilderKeyTape);
+    }
+
+    private JsonKey(List<String> callChain) {
+        this.callChain = callChain;
+    }
+
+    static JsonKey forLookup(JsonPath path) {
+        // Lookups never change their key, so can share an already parsed one.
+        return new JsonKey(path.callChain());
+    }
+
+    static boolean isBlank(String key) {
+        // The same characters as the regex \\s, without compiling a pattern for every lookup.
+        for (int index = 0; index < key.length(); index++) {
+            switch (key.charAt(index)) {
+                case ' ', '\t', '\n', '\u000B', '\f', '\r' -> {
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    static List<String> parseCallChain(String key, boolean useBuilderKeyTape) throws KeyInvalidException {
         // Sanity Check
         if (key == null) {
             throw new KeyInvalidException("Key cannot be null");
         }
 
         if (!key.equals("")) {
-            final Set<Character> whitespaces = new HashSet<>(Arrays.asList(' ', '\n', '\r', '\t'));
-
             // Consume any leading/trailing spaces
             int start = 0;
             int stop = key.length() - 1;
-            while (whitespaces.contains(key.charAt(start))) {
+            while (Tape.isWhiteSpace(key.charAt(start))) {
                 start++;
             }
-            while (whitespaces.contains(key.charAt(stop))) {
+            while (Tape.isWhiteSpace(key.charAt(stop))) {
                 stop--;
             }
             stop++;
@@ -38,17 +60,16 @@ final class JsonKey {
                 key = key.substring(start, stop);
             }
         } else {
-            callChain = new ArrayList<>();
+            List<String> callChain = new ArrayList<>();
             callChain.add("");
-            return;
+            return callChain;
         }
 
         // Parse out the key
         if (useBuilderKeyTape) {
-            callChain = new BuilderKeyTape(key).parseAllElements();
-        } else {
-            callChain = new KeyTape(key).parseAllElements();
+            return new BuilderKeyTape(key).parseAllElements();
         }
+        return new KeyTape(key).parseAllElements();
     }
 
     String getNextKey() {
@@ -59,6 +80,11 @@ final class JsonKey {
         }
     }
 
+    String peekNextKey() {
+        // The key getNextKey would give, without moving past it.
+        return currentCallChainIndex < callChain.size() ? callChain.get(currentCallChainIndex) : "";
+    }
+
     List<String> getAllKeys() {
         return callChain;
     }
@@ -0,0 +1,120 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.exceptions.json.KeyInvalidException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded table of keys which have already been compiled into a {@link JsonPath} for lookups (such as
+ * {@code getLongAt("a.b[3].c")}), so a key which is used again skips parsing altogether.
+ * <p>
+ * Every lookup goes through {@link #shared()} unless told otherwise. Safe to share between threads: racing inserts can
+ * only ever cost a key being parsed again, never a wrong result. Invalid keys are never cached, so always throw.
+ */
+public final class JsonKeyCache {
+
+    static final int DEFAULT_CAPACITY = 512;
+    private static final int MAXIMUM_CAPACITY = 1 << 16;
+    private static final int MAXIMUM_PROBES = 4;
+    // Longer keys are rarely repeated, and would make the cache retain far more than it saves.
+    private static final int MAXIMUM_KEY_LENGTH = 256;
+    private static final JsonKeyCache SHARED = new JsonKeyCache();
+
+    private final Entry[] table;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JsonKeyCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public JsonKeyCache(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(Math.min(capacity, MAXIMUM_CAPACITY), MAXIMUM_PROBES));
+        if (tableSize < capacity && tableSize < MAXIMUM_CAPACITY) {
+            tableSize <<= 1;
+        }
+        table = new Entry[tableSize];
+        mask = tableSize - 1;
+    }
+
+    public static JsonKeyCache shared() {
+        return SHARED;
+    }
+
+    public int capacity() {
+        return table.length;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public void clear() {
+        Arrays.fill(table, null);
+        hits.reset();
+        misses.reset();
+    }
+
+    List<String> callChainOf(String key) throws KeyInvalidException {
+        return pathOf(key).callChain();
+    }
+
+    JsonPath pathOf(String key) throws KeyInvalidException {
+        int hash = key.hashCode();
+        int home = spread(hash) & mask;
+        for (int probe = 0; probe < MAXIMUM_PROBES; probe++) {
+            Entry candidate = table[(home + probe) & mask];
+            if (candidate == null) {
+                break;
+            }
+            if (candidate.hash == hash && candidate.key.equals(key)) {
+                hits.increment();
+                return candidate.path;
+            }
+        }
+
+        misses.increment();
+        JsonPath path = JsonPath.compile(key);
+        if (key.length() <= MAXIMUM_KEY_LENGTH) {
+            insert(new Entry(key, hash, path), home);
+        }
+        return path;
+    }
+
+    private void insert(Entry entry, int home) {
+        for (int probe = 0; probe < MAXIMUM_PROBES; probe++) {
+            int slot = (home + probe) & mask;
+            if (table[slot] == null) {
+                table[slot] = entry;
+                return;
+            }
+        }
+        // Every nearby slot is taken, so evict rather than growing past our bound.
+        table[home] = entry;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+
+        // Immutable, so a racing reader either sees the whole entry or none of it.
+        private final String key;
+        private final int hash;
+        private final JsonPath path;
+
+        private Entry(String key, int hash, JsonPath path) {
+            this.key = key;
+            this.hash = hash;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class JsonLines {
+
+    private static final String READ_FAILURE_MESSAGE = "Failed to read the JSON input from its source.";
+
+    private record NumberedLine(long lineNumber, String text) {
+    }
+
+    private record FileLine(StartingLine rangeStart, long linesIntoRange, ByteBuffer bytes) {
+    }
+
+    private JsonLines() {
+    }
+
+    public static Stream<Json> stream(Reader source) {
+        if (source == null) {
+            throw new JsonParseException("You cannot create something from nothing. Input was null.");
+        }
+        BufferedReader lines = source instanceof BufferedReader bufferedSource
+                ? bufferedSource
+                : new BufferedReader(source);
+
+        // Lines are only read here, the parsing happens in the stream so parallel streams can share it out.
+        Spliterator<NumberedLine> lineSpliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL
+        ) {
+            private long lineNumber = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super NumberedLine> action) {
+                String line;
+                do {
+                    try {
+                        line = lines.readLine();
+                    } catch (IOException e) {
+                        throw new JsonParseException(READ_FAILURE_MESSAGE, e);
+                    }
+                    if (line == null) {
+                        return false;
+                    }
+                    lineNumber++;
+                } while (isBlank(line));
+                action.accept(new NumberedLine(lineNumber, line));
+                return true;
+            }
+        };
+        return StreamSupport.stream(lineSpliterator, false)
+                .map(line -> new JsonTape(line.text()).startingAtLine(line.lineNumber()).parseNextElement());
+    }
+
+    public static Stream<Json> stream(Path file) {
+        if (file == null) {
+            throw new JsonParseException("You cannot create something from nothing. Input was null.");
+        }
+        FileChannel source;
+        long fileSize;
+        try {
+            source = FileChannel.open(file, StandardOpenOption.READ);
+            fileSize = source.size();
+        } catch (IOException e) {
+            throw new JsonParseException(READ_FAILURE_MESSAGE, e);
+        }
+        return StreamSupport.stream(new FileLineSpliterator(source, 0, fileSize, StartingLine.FIRST), false)
+                .map(JsonLines::parseFileLine)
+                .onClose(() -> {
+                    try {
+                        source.close();
+                    } catch (IOException e) {
+                        throw new JsonParseException("Failed to close the JSON input source.", e);
+                    }
+                });
+    }
+
+    private static Json parseFileLine(FileLine line) {
+        try {
+            return new ByteTape(line.bytes().duplicate()).parseNextElement();
+        } catch (JsonParseException e) {
+            // Only now is it worth finding out which line this was, then parse it again to get the same error from there.
+            long lineNumber = line.rangeStart().linesBefore() + line.linesIntoRange() + 1;
+            return new ByteTape(line.bytes().duplicate()).startingAtLine(lineNumber).parseNextElement();
+        }
+    }
+
+    private static boolean isBlank(String line) {
+        for (int charIndex = 0; charIndex < line.length(); charIndex++) {
+            if (!Tape.isWhiteSpace(line.charAt(charIndex))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(ByteBuffer line) {
+        // Any byte of a multibyte UTF-8 sequence is above 0x7F, so can never be taken for white space.
+        for (int byteIndex = 0; byteIndex < line.limit(); byteIndex++) {
+            if (!Tape.isWhiteSpace((char) (line.get(byteIndex) & 0xFF))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class StartingLine {
+
+        // Where a range of the file starts, in lines. Ranges split off in parallel only count this if a line errors.
+        static final StartingLine FIRST = new StartingLine(null, 0, null, 0, 0);
+
+        private final StartingLine previousStart;
+        private final long previousLinesIntoRange;
+        private final FileChannel source;
+        private final long uncountedFrom;
+        private final long uncountedTo;
+        private long linesBefore = -1;
+
+        private StartingLine(
+                StartingLine previousStart,
+                long previousLinesIntoRange,
+                FileChannel source,
+                long uncountedFrom,
+                long uncountedTo
+        ) {
+            this.previousStart = previousStart;
+            this.previousLinesIntoRange = previousLinesIntoRange;
+            this.source = source;
+            this.uncountedFrom = uncountedFrom;
+            this.uncountedTo = uncountedTo;
+            if (previousStart == null) {
+                linesBefore = 0;
+            }
+        }
+
+        synchronized long linesBefore() {
+            if (linesBefore < 0) {
+                linesBefore = previousStart.linesBefore() + previousLinesIntoRange
+                        + new FileLineSpliterator(source, uncountedFrom, uncountedTo, FIRST).countLines();
+            }
+            return linesBefore;
+        }
+    }
+
+    private static final class FileLineSpliterator implements Spliterator<FileLine> {
+
+        private static final int WINDOW_SIZE = 1 << 24;
+        private static final int MAXIMUM_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+        private static final long MINIMUM_SPLIT_SIZE = 1 << 16;
+
+        private final FileChannel source;
+        private long position;
+        private final long end;
+        private ByteBuffer window;
+        private long windowStart;
+        private StartingLine rangeStart;
+        private long linesIntoRange = 0;
+
+        FileLineSpliterator(FileChannel source, long start, long end, StartingLine rangeStart) {
+            this.source = source;
+            this.position = start;
+            this.end = end;
+            this.rangeStart = rangeStart;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super FileLine> action) {
+            while (position < end) {
+                long lineStart = position;
+                long lineEnd = nextNewLine(lineStart);
+                position = Math.min(lineEnd + 1, end);
+                if (lineEnd - lineStart > MAXIMUM_WINDOW_SIZE) {
+                    throw new JsonParseException("Single JSON line exceeds the largest mappable region of "
+                            + MAXIMUM_WINDOW_SIZE + " bytes, at byte offset " + lineStart + ".");
+                }
+                int lineLength = (int) (lineEnd - lineStart);
+                mapWindow(lineStart, lineLength);
+                ByteBuffer line = window.slice((int) (lineStart - windowStart), lineLength);
+                long linesBeforeThisOne = linesIntoRange++;
+                if (!isBlank(line)) {
+                    action.accept(new FileLine(rangeStart, linesBeforeThisOne, line));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<FileLine> trySplit() {
+            // Hand out the first half, ending at a line boundary, so each half only ever holds whole lines.
+            if (end - position < MINIMUM_SPLIT_SIZE) {
+                return null;
+            }
+            long splitNewLine = nextNewLine(position + (end - position) / 2);
+            if (splitNewLine >= end - 1) {
+                return null;
+            }
+            FileLineSpliterator prefix = new FileLineSpliterator(source, position, splitNewLine + 1, rangeStart);
+            prefix.linesIntoRange = linesIntoRange;
+            rangeStart = new StartingLine(rangeStart, linesIntoRange, source, position, splitNewLine + 1);
+            linesIntoRange = 0;
+            position = splitNewLine + 1;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+
+        long countLines() {
+            long lines = 0;
+            while (position < end) {
+                position = nextNewLine(position) + 1;
+                if (position <= end) {
+                    lines++;
+                }
+            }
+            return lines;
+        }
+
+        private long nextNewLine(long from) {
+            long searching = from;
+            while (searching < end) {
+                mapWindow(searching, 1);
+                int windowLimit = window.limit();
+                for (int byteIndex = (int) (searching - windowStart); byteIndex < windowLimit; byteIndex++) {
+                    if (window.get(byteIndex) == '\n') {
+                        return windowStart + byteIndex;
+                    }
+                }
+                searching = windowStart + windowLimit;
+            }
+            return end;
+        }
+
+        private void mapWindow(long from, int minimumLength) {
+            if (window != null && from >= windowStart && from + minimumLength <= windowStart + window.limit()) {
+                return;
+            }
+            long mappingSize = Math.min(Math.max(WINDOW_SIZE, minimumLength), end - from);
+            try {
+                window = source.map(FileChannel.MapMode.READ_ONLY, from, mappingSize);
+                windowStart = from;
+            } catch (IOException e) {
+                throw new JsonParseException("Failed to map the JSON input from byte offset " + from + ".", e);
+            }
+        }
+    }
+}
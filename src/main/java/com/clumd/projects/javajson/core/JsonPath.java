@@ -0,0 +1,146 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.exceptions.json.JsonKeyException;
+import com.clumd.projects.javajson.exceptions.json.KeyInvalidException;
+
+import java.util.List;
+
+/**
+ * A key parsed once, into the object key Strings and array indices it steps through, which can then be applied to
+ * any number of documents without being parsed again:
+ * <pre>{@code
+ * JsonPath value = JsonPath.compile("a.b[3].c");
+ * long total = 0;
+ * for (Json document : documents) {
+ *     total += value.getLong(document);
+ * }
+ * }</pre>
+ * Accepts exactly the keys that {@code getLongAt} and friends do, and throws exactly the same exceptions they would for
+ * the same key and document. Immutable, so safe to share between threads.
+ */
+public final class JsonPath {
+
+    private final String path;
+    private final List<String> callChain;
+    // One entry per step: the object key to look up, or null to use the array index instead.
+    private final String[] keys;
+    private final int[] indices;
+
+    private JsonPath(String path, List<String> callChain) {
+        this.path = path;
+        this.callChain = callChain;
+        int steps = callChain.size() - 1;
+        keys = new String[steps];
+        indices = new int[steps];
+        for (int step = 0; step < steps; step++) {
+            String segment = callChain.get(step);
+            if (segment.charAt(0) == '[') {
+                indices[step] = Integer.parseInt(segment.substring(1));
+            } else {
+                keys[step] = segment.substring(1);
+            }
+        }
+    }
+
+    public static JsonPath compile(String path) throws KeyInvalidException {
+        if (path == null) {
+            throw new KeyInvalidException("Key cannot be null");
+        }
+        if (JsonKey.isBlank(path)) {
+            return new JsonPath(path, List.of(""));
+        }
+        return new JsonPath(path, List.copyOf(JsonKey.parseCallChain(path, false)));
+    }
+
+    public Json getAny(Json json) throws JsonKeyException {
+        Json found = resolve(json);
+        return found != null ? found : json.getAnyAt(path);
+    }
+
+    public boolean contains(Json json) {
+        return resolve(json) != null || json.contains(path);
+    }
+
+    public JSType getDataType(Json json) throws JsonKeyException {
+        return getAny(json).getDataType();
+    }
+
+    public long getLong(Json json) throws JsonKeyException {
+        Json found = resolve(json);
+        return found != null && found.getDataType() == JSType.LONG ? found.getLong() : json.getLongAt(path);
+    }
+
+    public double getDouble(Json json) throws JsonKeyException {
+        Json found = resolve(json);
+        return found != null && found.getDataType() == JSType.DOUBLE ? found.getDouble() : json.getDoubleAt(path);
+    }
+
+    public boolean getBoolean(Json json) throws JsonKeyException {
+        Json found = resolve(json);
+        return found != null && found.getDataType() == JSType.BOOLEAN ? found.getBoolean() : json.getBooleanAt(path);
+    }
+
+    public String getString(Json json) throws JsonKeyException {
+        Json found = resolve(json);
+        return found != null && found.getDataType() == JSType.STRING ? found.getString() : json.getStringAt(path);
+    }
+
+    public List<Json> getArray(Json json) throws JsonKeyException {
+        Json found = resolve(json);
+        return found != null && found.getDataType() == JSType.ARRAY ? found.getArray() : json.getArrayAt(path);
+    }
+
+    public Json getJSONObject(Json json) throws JsonKeyException {
+        Json found = resolve(json);
+        return found != null && found.getDataType() == JSType.OBJECT ? found : json.getJSONObjectAt(path);
+    }
+
+    List<String> callChain() {
+        return callChain;
+    }
+
+    int steps() {
+        return keys.length;
+    }
+
+    String keyAt(int step) {
+        // Null when the step is an array index.
+        return keys[step];
+    }
+
+    int indexAt(int step) {
+        return indices[step];
+    }
+
+    Json resolve(Json root) {
+        // Null if any step can't be taken, so the caller can fall back to the key lookup for its exact error.
+        if (!(root instanceof com.clumd.projects.javajson.core.Json current)) {
+            return null;
+        }
+        for (int step = 0; step < keys.length && current != null; step++) {
+            if (keys[step] == null && step + 1 < keys.length && keys[step + 1] != null) {
+                // Records stored as columns can answer an index then a key without building the record.
+                current = current.childAt(indices[step], keys[++step]);
+            } else {
+                current = keys[step] != null ? current.childByKey(keys[step]) : current.childAt(indices[step]);
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof JsonPath otherPath && path.equals(otherPath.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+}
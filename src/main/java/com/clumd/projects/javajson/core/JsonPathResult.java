@@ -0,0 +1,49 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+
+/**
+ * What was found at one of the paths looked up together with a {@link JsonPathSet}.
+ * <p>
+ * The status is what a single lookup of the same path would have done: returned a value, thrown a
+ * {@link com.clumd.projects.javajson.exceptions.json.KeyNotFoundException} (MISSING) or thrown a
+ * {@link com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException} (TYPE_MISMATCH).
+ */
+public final class JsonPathResult {
+
+    public enum Status {
+        FOUND, MISSING, TYPE_MISMATCH
+    }
+
+    private final String path;
+    private final Status status;
+    private final Json value;
+
+    JsonPathResult(String path, Status status, Json value) {
+        this.path = path;
+        this.status = status;
+        this.value = value;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+
+    public Json getValue() {
+        // Null unless found.
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return path + " -> " + (status == Status.FOUND ? value.asString() : status.toString());
+    }
+}
@@ -0,0 +1,121 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.exceptions.json.KeyInvalidException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Many paths compiled together, so they can all be looked up in a document with a single walk of it. Any prefix the
+ * paths share (such as {@code order.customer} in {@code order.customer.id} and {@code order.customer.name}) is only
+ * walked once.
+ * <p>
+ * Nothing is thrown for paths which aren't in the document, each gets a {@link JsonPathResult} saying what happened
+ * instead. Immutable, so safe to share between threads.
+ */
+public final class JsonPathSet {
+
+    private final List<String> paths;
+    private final Step root = new Step(null, 0);
+
+    private JsonPathSet(Collection<String> paths) {
+        List<String> distinctPaths = new ArrayList<>(paths.size());
+        Set<String> seenPaths = new HashSet<>();
+        for (String path : paths) {
+            JsonPath compiled = path != null && !JsonKey.isBlank(path)
+                    ? JsonKeyCache.shared().pathOf(path)
+                    : JsonPath.compile(path);
+            if (seenPaths.add(path)) {
+                root.add(compiled, 0, distinctPaths.size());
+                distinctPaths.add(path);
+            }
+        }
+        this.paths = List.copyOf(distinctPaths);
+    }
+
+    public static JsonPathSet compile(Collection<String> paths) throws KeyInvalidException {
+        return new JsonPathSet(paths);
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public Map<String, JsonPathResult> lookup(com.clumd.projects.javajson.api.Json json) {
+        // Results are in the same order as the paths were given.
+        JsonPathResult[] results = new JsonPathResult[paths.size()];
+        root.visit((Json) json, results, paths);
+        Map<String, JsonPathResult> resultsByPath = new LinkedHashMap<>();
+        for (JsonPathResult result : results) {
+            resultsByPath.put(result.getPath(), result);
+        }
+        return resultsByPath;
+    }
+
+    private static final class Step {
+
+        // How to reach this step from its parent: an object key, or (when key is null) an array index.
+        private final String key;
+        private final int index;
+        private final List<Step> children = new ArrayList<>(2);
+        private final List<Integer> pathsEndingHere = new ArrayList<>(1);
+
+        private Step(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        private void add(JsonPath path, int step, int pathNumber) {
+            if (step == path.steps()) {
+                pathsEndingHere.add(pathNumber);
+                return;
+            }
+            String nextKey = path.keyAt(step);
+            int nextIndex = path.indexAt(step);
+            for (Step child : children) {
+                if (nextKey == null ? child.key == null && child.index == nextIndex : nextKey.equals(child.key)) {
+                    child.add(path, step + 1, pathNumber);
+                    return;
+                }
+            }
+            Step child = new Step(nextKey, nextIndex);
+            children.add(child);
+            child.add(path, step + 1, pathNumber);
+        }
+
+        private void visit(Json current, JsonPathResult[] results, List<String> paths) {
+            for (int pathNumber : pathsEndingHere) {
+                results[pathNumber] = new JsonPathResult(paths.get(pathNumber), JsonPathResult.Status.FOUND, current);
+            }
+            for (Step child : children) {
+                Json next = child.key != null ? current.childByKey(child.key) : current.childAt(child.index);
+                if (next != null) {
+                    child.visit(next, results, paths);
+                } else {
+                    child.fail(failureOf(current, child), results, paths);
+                }
+            }
+        }
+
+        private void fail(JsonPathResult.Status status, JsonPathResult[] results, List<String> paths) {
+            for (int pathNumber : pathsEndingHere) {
+                results[pathNumber] = new JsonPathResult(paths.get(pathNumber), status, null);
+            }
+            for (Step child : children) {
+                child.fail(status, results, paths);
+            }
+        }
+
+        private static JsonPathResult.Status failureOf(Json current, Step step) {
+            // The same as what getInternal throws: keys on arrays and indices on objects are the wrong type.
+            JSType type = current.getDataType();
+            boolean wrongAccessor = step.key != null ? type == JSType.ARRAY : type == JSType.OBJECT;
+            return wrongAccessor ? JsonPathResult.Status.TYPE_MISMATCH : JsonPathResult.Status.MISSING;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
+
+import java.util.Arrays;
+
+/**
+ * Walks a JSON input one token at a time, without building any tree from it.
+ * <p>
+ * Strings, numbers and booleans are scanned by the same code as the tree parser, and the same syntax errors are thrown
+ * for the same input, except that duplicate object keys are not detected (as that would mean remembering every key).
+ */
+public final class JsonReader implements AutoCloseable {
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private final JsonTape tape;
+    private boolean[] containerIsObject = new boolean[INITIAL_DEPTH];
+    private int depth = 0;
+    private boolean firstInContainer = false;
+    private boolean awaitingFieldValue = false;
+    private boolean rootRead = false;
+
+    private JsonToken currentToken = null;
+    private int currentTokenStart = -1;
+    private String stringValue;
+    private JSType numberType;
+    private long longValue;
+    private double doubleValue;
+    private boolean booleanValue;
+
+    public JsonReader(JsonTape tape) {
+        this.tape = tape;
+    }
+
+    public JsonToken nextToken() {
+        stringValue = null;
+        numberType = null;
+        if (depth == 0) {
+            if (rootRead) {
+                return currentToken = JsonToken.END_DOCUMENT;
+            }
+            rootRead = true;
+            return currentToken = readValueToken();
+        }
+        return currentToken = containerIsObject[depth - 1] ? nextInObject() : nextInArray();
+    }
+
+    public JsonToken currentToken() {
+        return currentToken;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public String getString() {
+        if (currentToken != JsonToken.VALUE_STRING && currentToken != JsonToken.FIELD_NAME) {
+            throw differentType("string");
+        }
+        return stringValue;
+    }
+
+    public Number getNumber() {
+        if (currentToken != JsonToken.VALUE_NUMBER) {
+            throw differentType("number");
+        }
+        return numberType == JSType.LONG ? (Number) longValue : (Number) doubleValue;
+    }
+
+    public long getLong() {
+        if (currentToken != JsonToken.VALUE_NUMBER) {
+            throw differentType("number");
+        }
+        if (numberType != JSType.LONG) {
+            throw new KeyDifferentTypeException("This number is a double, not a long.");
+        }
+        return longValue;
+    }
+
+    public double getDouble() {
+        if (currentToken != JsonToken.VALUE_NUMBER) {
+            throw differentType("number");
+        }
+        if (numberType != JSType.DOUBLE) {
+            throw new KeyDifferentTypeException("This number is a long, not a double.");
+        }
+        return doubleValue;
+    }
+
+    public boolean getBoolean() {
+        if (currentToken != JsonToken.VALUE_BOOLEAN) {
+            throw differentType("boolean");
+        }
+        return booleanValue;
+    }
+
+    public String nextFieldName() {
+        nextToken();
+        if (currentToken != JsonToken.FIELD_NAME) {
+            throw differentType("field name");
+        }
+        return stringValue;
+    }
+
+    public String nextString() {
+        nextToken();
+        return getString();
+    }
+
+    public long nextLong() {
+        nextToken();
+        return getLong();
+    }
+
+    public double nextDouble() {
+        nextToken();
+        return getDouble();
+    }
+
+    public boolean nextBoolean() {
+        nextToken();
+        return getBoolean();
+    }
+
+    public void skipChildren() {
+        // Only containers have children, the reader is left on their closing token.
+        if (currentToken != JsonToken.START_OBJECT && currentToken != JsonToken.START_ARRAY) {
+            return;
+        }
+        tape.currentIndex = currentTokenStart;
+        tape.skipElement();
+        currentToken = leaveContainer();
+    }
+
+    public Json readTree() {
+        // Builds the value at the current token, leaving the reader on its last token.
+        if (currentToken == JsonToken.FIELD_NAME) {
+            nextToken();
+        }
+        if (currentToken == null || currentToken == JsonToken.END_DOCUMENT
+                || currentToken == JsonToken.END_OBJECT || currentToken == JsonToken.END_ARRAY) {
+            throw differentType("value");
+        }
+        tape.currentIndex = currentTokenStart;
+        Json tree = tape.parseNextElement();
+        if (currentToken == JsonToken.START_OBJECT || currentToken == JsonToken.START_ARRAY) {
+            currentToken = leaveContainer();
+        }
+        return tree;
+    }
+
+    @Override
+    public void close() {
+        if (tape instanceof MappedJsonTape mappedTape) {
+            mappedTape.close();
+        }
+    }
+
+    private JsonToken nextInObject() {
+        if (awaitingFieldValue) {
+            awaitingFieldValue = false;
+            tape.consumeWhiteSpace();
+            if (tape.consumeOne() != ':') {
+                throw tape.createParseErrorFromOffset(-1, ":", "Invalid Key:Value separator. Must use a colon(:).");
+            }
+            return readValueToken();
+        }
+
+        tape.consumeWhiteSpace();
+        if (firstInContainer) {
+            firstInContainer = false;
+            char checkingChar = tape.checkCurrentChar();
+            if (checkingChar == '}') {
+                tape.consumeOne();
+                return leaveContainer();
+            }
+            if (checkingChar != '"' && checkingChar != '\'') {
+                throw tape.createParseError("\"", "Missing Key at start of Object.");
+            }
+        } else {
+            switch (tape.consumeOne()) {
+                case '}' -> {
+                    return leaveContainer();
+                }
+                case ',' -> {
+                    // Validate if we see a comma, there are more children to come
+                    tape.consumeWhiteSpace();
+                    if (tape.checkCurrentChar() == '}') {
+                        throw tape.createParseError(JsonTape.VALID_JSON,
+                                "Comma suggests more object elements, but object terminates.");
+                    }
+                }
+                default -> throw tape.createParseErrorFromOffset(-1, ", / }", "Invalid object child delimiter.");
+            }
+        }
+
+        // Get the Key
+        tape.consumeWhiteSpace();
+        currentTokenStart = tape.getCurrentIndex();
+        stringValue = tape.parseObjectKey();
+        if (stringValue.equals("")) {
+            throw tape.createParseError("<Valid Key>", "Illegal Object Key (Empty).");
+        }
+        awaitingFieldValue = true;
+        return JsonToken.FIELD_NAME;
+    }
+
+    private JsonToken nextInArray() {
+        tape.consumeWhiteSpace();
+        if (firstInContainer) {
+            firstInContainer = false;
+            switch (tape.checkCurrentChar()) {
+                case ',' -> throw tape.createParseError(JsonTape.VALID_JSON, "Missing Valid JSON at start of array.");
+                case ']' -> {
+                    tape.consumeOne();
+                    return leaveContainer();
+                }
+                default -> {
+                    return readValueToken();
+                }
+            }
+        }
+        switch (tape.consumeOne()) {
+            case ']' -> {
+                return leaveContainer();
+            }
+            case ',' -> {
+                // Validate if we see a comma, there are more children to come
+                tape.consumeWhiteSpace();
+                if (tape.checkCurrentChar() == ']') {
+                    throw tape.createParseError(JsonTape.VALID_JSON,
+                            "Comma suggests more array elements, but array terminates.");
+                }
+                return readValueToken();
+            }
+            default -> throw tape.createParseErrorFromOffset(-1, ", / ]", "Invalid array child delimiter.");
+        }
+    }
+
+    private JsonToken readValueToken() {
+        tape.consumeWhiteSpace();
+        currentTokenStart = tape.getCurrentIndex();
+        switch (tape.checkCurrentChar()) {
+            case 't', 'T', 'f', 'F' -> {
+                booleanValue = tape.scanBoolean();
+                return JsonToken.VALUE_BOOLEAN;
+            }
+            case '{' -> {
+                return enterContainer(true);
+            }
+            case '[' -> {
+                return enterContainer(false);
+            }
+            case '"', '\'', '`' -> {
+                stringValue = tape.scanString();
+                return JsonToken.VALUE_STRING;
+            }
+            case '-', '+', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> {
+                numberType = tape.scanNumber();
+                longValue = tape.scannedLong();
+                doubleValue = tape.scannedDouble();
+                return JsonToken.VALUE_NUMBER;
+            }
+            default -> throw tape.createParseError(JsonTape.VALID_JSON, Tape.DEFAULT_PARSE_ERROR_MESSAGE);
+        }
+    }
+
+    private JsonToken enterContainer(boolean isObject) {
+        tape.consumeOne();
+        if (depth == containerIsObject.length) {
+            containerIsObject = Arrays.copyOf(containerIsObject, depth * 2);
+        }
+        containerIsObject[depth++] = isObject;
+        firstInContainer = true;
+        return isObject ? JsonToken.START_OBJECT : JsonToken.START_ARRAY;
+    }
+
+    private JsonToken leaveContainer() {
+        firstInContainer = false;
+        return containerIsObject[--depth] ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+    }
+
+    private KeyDifferentTypeException differentType(String expected) {
+        return new KeyDifferentTypeException("The current token is " + currentToken + ", not a " + expected + ".");
+    }
+}
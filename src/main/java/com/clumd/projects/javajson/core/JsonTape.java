@@ -1,13 +1,48 @@
 package com.clumd.projects.javajson.core;
 
+import com.clumd.projects.javajson.api.JsonParseOptions;
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 
-public final class JsonTape extends Tape<Json, JsonParseException> {
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class JsonTape extends Tape<Json, JsonParseException> {
 
     static final String VALID_JSON = "{ / [ / \" / <number> / <boolean> ";
+    private static final String END_OF_INPUT_MESSAGE =
+            "Reached the end of the JSON input before parsing was complete. Are you missing a terminating delimiter?";
+
+    final JsonParseOptions options;
+    private StructuralIndex structuralIndex;
+    private int structuralCursor = 0;
+    private long precedingLines = 0;
+    private long scannedLong;
+    private double scannedDouble;
+    private ObjectKeyInterner keyInterner;
+    private ObjectShape rootObjectShape;
+    private Memo.Budget memoBudget;
 
     public JsonTape(String fullInput) {
+        this(fullInput, JsonParseOptions.defaults());
+    }
+
+    public JsonTape(String fullInput, JsonParseOptions options) {
         super(fullInput);
+        this.options = options == null ? JsonParseOptions.defaults() : options;
+        buildStructuralIndexIfRequested();
+    }
+
+    JsonTape(JsonParseOptions options) {
+        super();
+        this.options = options == null ? JsonParseOptions.defaults() : options;
+    }
+
+    private JsonTape(JsonTape original) {
+        super(original.fullInput);
+        this.options = original.options;
     }
 
     public Json parseNextElement() {
@@ -18,44 +53,273 @@ public final class JsonTape extends Tape<Json, JsonParseException> {
         // Figure out the next JSON type
         Json nextElement = null;
         switch (checkCurrentChar()) {
-            case 't', 'T', 'f', 'F' -> nextElement = new JSBoolean(this);
+            case 't', 'T', 'f', 'F' -> nextElement = JSBoolean.parse(this);
             case '{' -> nextElement = new JSObject(this);
             case '[' -> nextElement = new JSArray(this);
             case '"', '\'', '`' -> nextElement = new JSString(this);
-            case '-', '+', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> nextElement = new JSNumber(this);
+            case '-', '+', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> nextElement = JSNumber.parse(this);
             default -> createParseError(VALID_JSON);
         }
         return nextElement;
     }
 
+    boolean isAtNumber() {
+        // Whether parseNextElement would parse a number from here.
+        consumeWhiteSpace();
+        return switch (checkCurrentChar()) {
+            case '-', '+', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> true;
+            default -> false;
+        };
+    }
+
     @Override
-    protected JsonParseException newTypedException(String message) {
+    protected final JsonParseException newTypedException(String message) {
         return new JsonParseException(message);
     }
 
     @Override
     protected void consumeWhiteSpace() {
+        if (structuralIndex != null) {
+            skipToNextIndexedToken();
+        }
+        while (true) {
+            requireCurrentChar();
+            switch (checkCurrentChar()) {
+                case ' ', '\n', '\r', '\t' -> currentIndex++;
+                case '/', '#' -> consumeComment();
+                default -> {
+                    releaseConsumedInput();
+                    return;
+                }
+            }
+        }
+    }
+
+    JsonTape startingAtLine(long lineNumber) {
+        // For input which is only one part of a larger source, so errors report the line within the whole source.
+        precedingLines = lineNumber - 1;
+        return this;
+    }
+
+    @Override
+    long releasedLineCount() {
+        return precedingLines;
+    }
+
+    boolean isLazy() {
+        return options.isLazyMaterialisation();
+    }
+
+    boolean isColumnarRecords() {
+        return options.isColumnarRecords();
+    }
+
+    JsonTape forkAt(int index) {
+        // A second, independent, read head over the same input.
+        JsonTape fork = newReadHead();
+        fork.currentIndex = index;
+        fork.precedingLines = precedingLines;
+        if (structuralIndex != null) {
+            fork.structuralIndex = structuralIndex;
+            fork.structuralCursor = structuralIndex.firstEntryAtOrAfter(index);
+        }
+        fork.keyInterner = keyInterner();
+        fork.rootObjectShape = rootObjectShape();
+        fork.memoBudget = memoBudget();
+        return fork;
+    }
+
+    Memo newMemo() {
+        // Null unless memoisation was asked for.
+        return options.isMemoisation() ? new Memo(memoBudget()) : null;
+    }
+
+    private Memo.Budget memoBudget() {
+        // Shared by every container in this parse.
+        if (memoBudget == null && options.isMemoisation()) {
+            memoBudget = new Memo.Budget(options.getMemoisationBudget());
+        }
+        return memoBudget;
+    }
+
+    ObjectShape rootObjectShape() {
+        // Shared by every object in this parse, so objects with the same keys in the same order share a shape.
+        if (rootObjectShape == null) {
+            rootObjectShape = ObjectShape.root();
+        }
+        return rootObjectShape;
+    }
+
+    JsonTape newReadHead() {
+        return new JsonTape(this);
+    }
+
+    final void buildStructuralIndexIfRequested() {
+        if (options.isStructuralIndex() || options.isParallelArrays()) {
+            structuralIndex = new StructuralIndex(this);
+        }
+    }
+
+    int countElementsOfCurrentContainer() {
+        // Only known up front when we have a structural index, otherwise -1.
+        int entry = indexedEntryOfCurrentChar();
+        return entry < 0 ? -1 : structuralIndex.countElements(entry);
+    }
+
+    List<com.clumd.projects.javajson.api.Json> parseArrayElementsInParallel() {
+        // Only worth it for large arrays, otherwise null is returned and the caller should parse sequentially.
+        int openingEntry = indexedEntryOfCurrentChar();
+        if (!options.isParallelArrays() || openingEntry < 0) {
+            return null;
+        }
+        int[] delimiters = structuralIndex.delimiterEntriesOf(openingEntry);
+        if (delimiters == null || delimiters.length < options.getParallelArrayThreshold()
+                || structuralIndex.charOf(delimiters[delimiters.length - 1]) != ']') {
+            return null;
+        }
+
+        // Created before any task forks from us, so every element shares the same keys and shapes.
+        keyInterner();
+        rootObjectShape();
+        memoBudget();
+        Json[] elements = new Json[delimiters.length];
         try {
-            while (true) {
-                switch (checkCurrentChar()) {
-                    case ' ', '\n', '\r', '\t' -> currentIndex++;
-                    case '/', '#' -> consumeComment();
-                    default -> {
-                        return;
-                    }
+            ForkJoinPool.commonPool().invoke(new ArrayElementsParse(this, openingEntry, delimiters, elements, 0, elements.length));
+        } catch (RuntimeException e) {
+            // Let the sequential parse find the first problem, so we throw exactly what it would have.
+            return null;
+        }
+        structuralCursor = delimiters[delimiters.length - 1];
+        currentIndex = structuralIndex.positionOf(structuralCursor++) + 1;
+        return new ArrayList<>(Arrays.asList(elements));
+    }
+
+    void skipElement() {
+        int entry = indexedEntryOfCurrentChar();
+        if (entry >= 0 && structuralIndex.matchingEntryOf(entry) >= 0) {
+            structuralCursor = structuralIndex.matchingEntryOf(entry);
+            currentIndex = structuralIndex.positionOf(structuralCursor++) + 1;
+            return;
+        }
+
+        // Bracket matching only, nothing inside the container is built or validated.
+        int depth = 0;
+        do {
+            requireCurrentChar();
+            switch (checkCurrentChar()) {
+                case '{', '[' -> {
+                    depth++;
+                    currentIndex++;
+                }
+                case '}', ']' -> {
+                    depth--;
+                    currentIndex++;
                 }
+                case '"', '\'', '`' -> skipString();
+                case '/', '#' -> consumeComment();
+                default -> currentIndex++;
+            }
+        } while (depth > 0);
+    }
+
+    // The scalar scanners below are shared by the tree (JS* classes) and the token stream (JsonReader).
+
+    String scanString() {
+        final char stringDelimiter = checkCurrentChar();
+        if (stringDelimiter != '"' && stringDelimiter != '\'' && stringDelimiter != '`') {
+            throw createParseError("\" / ' / `", stringDelimiter + " is not a valid string delimiter.");
+        }
+        consumeOne();
+        int valueStart = currentIndex;
+
+        // Nearly every string has no escapes, so can be taken straight from the input in one go.
+        while (true) {
+            requireStringContinues(stringDelimiter);
+            char currentChar = checkCharAt(currentIndex);
+            if (currentChar == stringDelimiter) {
+                return requestRegion(valueStart, currentIndex++);
+            }
+            if (currentChar == '\\') {
+                return scanEscapedString(stringDelimiter, valueStart);
+            }
+            currentIndex++;
+        }
+    }
+
+    String parseObjectKey() {
+        consumeWhiteSpace();
+        switch (checkCurrentChar()) {
+            case '"', '\'', '`' -> {
+                return scanKey();
+            }
+            default -> {
+                parseNextElement();
+                throw createParseErrorFromOffset(-1, "\"", "Invalid type for object key.");
             }
-        } catch (IndexOutOfBoundsException e) {
-            throw new JsonParseException(
-                    "Reached the end of the JSON input before parsing was complete. Are you missing a terminating delimiter?"
-            );
         }
     }
 
+    JSType scanNumber() {
+        // The value is left in scannedLong / scannedDouble, so nothing needs boxing.
+        int numberStartIndex = currentIndex;
+
+        boolean foundEnd = false;
+        boolean isFloating = false;
+
+        while (!foundEnd && hasCharAt(currentIndex)) {
+            switch (checkCurrentChar()) {
+                case '.', 'e', 'E':
+                    isFloating = true;
+                    // Fallthrough to still consume the char we just checked.
+                case '-', '+', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9':
+                    currentIndex++;
+                    break;
+                default:
+                    foundEnd = true;
+            }
+        }
+
+        if (isFloating) {
+            if (!decodeDouble(numberStartIndex, currentIndex)) {
+                scannedDouble = parseNumberRegionWithJdk(numberStartIndex, true).doubleValue();
+            }
+            return JSType.DOUBLE;
+        }
+        if (!decodeLong(numberStartIndex, currentIndex)) {
+            scannedLong = parseNumberRegionWithJdk(numberStartIndex, false).longValue();
+        }
+        return JSType.LONG;
+    }
+
+    long scannedLong() {
+        return scannedLong;
+    }
+
+    double scannedDouble() {
+        return scannedDouble;
+    }
+
+    boolean scanBoolean() {
+        if (checkNextFragment("true") || checkNextFragment("True") || checkNextFragment("TRUE")) {
+            return true;
+        }
+        if (checkNextFragment("false") || checkNextFragment("False") || checkNextFragment("FALSE")) {
+            return false;
+        }
+        throw createParseError("true / false", DEFAULT_PARSE_ERROR_MESSAGE);
+    }
+
+    void releaseConsumedInput() {
+        // Only called between tokens, so no element is holding an index into the input. Nothing to release by default.
+    }
+
     private void consumeComment() {
         switch (checkCurrentChar()) {
             case '#' -> consumeUntilNewLine();
             case '/' -> {
+                if (!hasCharAt(currentIndex + 1)) {
+                    throw new JsonParseException(END_OF_INPUT_MESSAGE);
+                }
                 switch (checkNextChar()) {
                     //   <-- this Comment
                     case '/' -> consumeUntilNewLine();
@@ -73,16 +337,335 @@ public final class JsonTape extends Tape<Json, JsonParseException> {
         }
     }
 
-    private void consumeUntilNewLine() {
-        while (checkCurrentChar() != '\n') {
-            currentIndex++;
+    private int indexedEntryOfCurrentChar() {
+        if (structuralIndex == null) {
+            return -1;
+        }
+        while (structuralCursor < structuralIndex.size() && structuralIndex.positionOf(structuralCursor) < currentIndex) {
+            structuralCursor++;
+        }
+        if (structuralCursor < structuralIndex.size() && structuralIndex.positionOf(structuralCursor) == currentIndex) {
+            return structuralCursor;
         }
-        currentIndex++;
+        return -1;
+    }
+
+    private void skipToNextIndexedToken() {
+        // Whitespace and comments are never indexed, so we can jump straight over any run of them to the next token.
+        if (!hasCharAt(currentIndex)) {
+            return;
+        }
+        switch (checkCurrentChar()) {
+            case ' ', '\n', '\r', '\t' -> {
+                indexedEntryOfCurrentChar();
+                if (structuralCursor < structuralIndex.size()) {
+                    currentIndex = structuralIndex.positionOf(structuralCursor);
+                }
+            }
+            default -> {
+                // Already at a token.
+            }
+        }
+    }
+
+    private void skipString() {
+        char stringDelimiter = consumeOne();
+        char currentChar;
+        do {
+            requireCurrentChar();
+            currentChar = consumeOne();
+            if (currentChar == '\\') {
+                currentIndex++;
+            }
+        } while (currentChar != stringDelimiter);
+    }
+
+    private void consumeUntilNewLine() {
+        do {
+            requireCurrentChar();
+        } while (consumeOne() != '\n');
     }
 
     private void consumeUntilEndOfMultilineString() {
         while (!checkNextFragment("*/")) {
+            requireCurrentChar();
+            currentIndex++;
+        }
+    }
+
+    private String scanKey() {
+        // Keys repeat so often that we look for an existing copy straight from the input, before allocating anything.
+        ObjectKeyInterner interner = keyInterner();
+        if (interner == null) {
+            return scanString();
+        }
+        char stringDelimiter = checkCurrentChar();
+        int keyStart = currentIndex + 1;
+        int hash = 0;
+        for (int index = keyStart; hasCharAt(index); index++) {
+            char currentChar = checkCharAt(index);
+            if (currentChar == stringDelimiter) {
+                currentIndex = index + 1;
+                return interner.intern(this, keyStart, index, hash);
+            }
+            if (currentChar == '\\' || currentChar >= 128) {
+                break;
+            }
+            hash = 31 * hash + currentChar;
+        }
+        // Escaped, non-ASCII or unterminated keys are left to the normal string scan (and its errors).
+        return scanString();
+    }
+
+    private ObjectKeyInterner keyInterner() {
+        if (keyInterner == null && options.isKeyInterning()) {
+            keyInterner = options.getSharedKeyInterner() != null
+                    ? options.getSharedKeyInterner()
+                    : new ObjectKeyInterner();
+        }
+        return keyInterner;
+    }
+
+    private String scanEscapedString(char stringDelimiter, int valueStart) {
+        // Copy the string in runs between escapes, so the tape decides how its characters are decoded.
+        StringBuilder string = new StringBuilder(currentIndex - valueStart + 16);
+        int runStart = valueStart;
+        while (true) {
+            requireStringContinues(stringDelimiter);
+            char currentChar = checkCharAt(currentIndex);
+            if (currentChar == stringDelimiter || currentChar == '\\') {
+                if (runStart < currentIndex) {
+                    string.append(requestRegion(runStart, currentIndex));
+                }
+                currentIndex++;
+                if (currentChar == stringDelimiter) {
+                    return string.toString();
+                }
+                requireStringContinues(stringDelimiter);
+                runStart = decodeEscape(string);
+            } else {
+                currentIndex++;
+            }
+        }
+    }
+
+    private int decodeEscape(StringBuilder string) {
+        // Returns where the next run of plain characters starts.
+        char decoded;
+        switch (checkCurrentChar()) {
+            case 'n' -> decoded = '\n';
+            case 't' -> decoded = '\t';
+            case 'r' -> decoded = '\r';
+            case 'b' -> decoded = '\b';
+            case 'f' -> decoded = '\f';
+            case 'u' -> decoded = decodeUnicodeEscape();
+            default -> {
+                // Anything else escapes itself (quotes, slashes), so it just begins the next run.
+                return currentIndex++;
+            }
+        }
+        string.append(decoded);
+        return ++currentIndex;
+    }
+
+    private char decodeUnicodeEscape() {
+        int codeUnit = 0;
+        for (int digit = 0; digit < 4; digit++) {
             currentIndex++;
+            char hexDigit = hasCharAt(currentIndex) ? checkCurrentChar() : ' ';
+            int digitValue = hexDigit < 128 ? Character.digit(hexDigit, 16) : -1;
+            if (digitValue < 0) {
+                throw createParseError("<hex digit>", "Invalid unicode escape sequence in string.");
+            }
+            codeUnit = (codeUnit << 4) | digitValue;
+        }
+        return (char) codeUnit;
+    }
+
+    private void requireStringContinues(char stringDelimiter) {
+        if (!hasCharAt(currentIndex)) {
+            throw createParseError(
+                    String.valueOf(stringDelimiter),
+                    "Didn't find matching " + stringDelimiter + ", before end of string."
+            );
+        }
+    }
+
+    private boolean decodeLong(int fromHere, int toHere) {
+        // Accumulates negatively (as Long.parseLong does) so Long.MIN_VALUE fits, giving up on anything unusual.
+        if (fromHere == toHere) {
+            return false;
+        }
+        int index = fromHere;
+        boolean negative = false;
+        char currentChar = checkCharAt(index);
+        if (currentChar == '-' || currentChar == '+') {
+            negative = currentChar == '-';
+            index++;
+        }
+        if (index == toHere) {
+            return false;
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; index < toHere; index++) {
+            int digit = checkCharAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        scannedLong = negative ? result : -result;
+        return true;
+    }
+
+    private boolean decodeDouble(int fromHere, int toHere) {
+        // Splits the number into up to 19 significant digits and a power of ten, giving up on anything unusual.
+        if (fromHere == toHere) {
+            return false;
+        }
+        int index = fromHere;
+        boolean negative = false;
+        char currentChar = checkCharAt(index);
+        if (currentChar == '-' || currentChar == '+') {
+            negative = currentChar == '-';
+            index++;
+        }
+
+        long significand = 0;
+        int significantDigits = 0;
+        int mantissaDigits = 0;
+        int powerOfTen = 0;
+        boolean seenPoint = false;
+        for (; index < toHere; index++) {
+            currentChar = checkCharAt(index);
+            if (currentChar == '.' && !seenPoint) {
+                seenPoint = true;
+                continue;
+            }
+            if (currentChar < '0' || currentChar > '9') {
+                break;
+            }
+            mantissaDigits++;
+            if (seenPoint) {
+                powerOfTen--;
+            }
+            if (significantDigits > 0 || currentChar != '0') {
+                if (++significantDigits > 19) {
+                    return false;
+                }
+                significand = significand * 10 + (currentChar - '0');
+            }
+        }
+        if (mantissaDigits == 0) {
+            return false;
+        }
+
+        if (index < toHere) {
+            currentChar = checkCharAt(index++);
+            if (currentChar != 'e' && currentChar != 'E' || index == toHere) {
+                return false;
+            }
+            boolean negativeExponent = false;
+            currentChar = checkCharAt(index);
+            if (currentChar == '-' || currentChar == '+') {
+                negativeExponent = currentChar == '-';
+                index++;
+            }
+            if (index == toHere) {
+                return false;
+            }
+            int exponent = 0;
+            for (; index < toHere; index++) {
+                int digit = checkCharAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    return false;
+                }
+                if (exponent < 100_000) {
+                    // Anything bigger is already well past the range of a double, so stop before overflowing.
+                    exponent = exponent * 10 + digit;
+                }
+            }
+            powerOfTen += negativeExponent ? -exponent : exponent;
+        }
+
+        double value = DecimalToDouble.convert(significand, powerOfTen, negative);
+        if (Double.isNaN(value)) {
+            return false;
+        }
+        scannedDouble = value;
+        return true;
+    }
+
+    private Number parseNumberRegionWithJdk(int numberStartIndex, boolean isFloating) {
+        // Only for what the direct decoders gave up on: invalid numbers (for the JDK's error message), or doubles
+        // which need more than 19 significant digits, or more precision than Eisel-Lemire can guarantee.
+        String numberString = requestRegion(numberStartIndex, currentIndex);
+        try {
+            if (isFloating) {
+                return Double.parseDouble(numberString);
+            }
+            return Long.parseLong(numberString);
+        } catch (NumberFormatException e) {
+            throw createParseError("<number>",
+                    e.getMessage().replaceFirst("For input string", "Invalid number format"));
+        }
+    }
+
+    private void requireCurrentChar() {
+        if (!hasCharAt(currentIndex)) {
+            throw new JsonParseException(END_OF_INPUT_MESSAGE);
+        }
+    }
+
+    private static final class ArrayElementsParse extends RecursiveAction {
+
+        private static final long serialVersionUID = 100L;
+        private static final int ELEMENTS_PER_TASK = 256;
+
+        private final transient JsonTape source;
+        private final int openingEntry;
+        private final int[] delimiters;
+        private final Json[] elements;
+        private final int fromElement;
+        private final int toElement;
+
+        ArrayElementsParse(JsonTape source, int openingEntry, int[] delimiters, Json[] elements, int fromElement, int toElement) {
+            this.source = source;
+            this.openingEntry = openingEntry;
+            this.delimiters = delimiters;
+            this.elements = elements;
+            this.fromElement = fromElement;
+            this.toElement = toElement;
+        }
+
+        @Override
+        protected void compute() {
+            if (toElement - fromElement > ELEMENTS_PER_TASK) {
+                int middle = (fromElement + toElement) >>> 1;
+                invokeAll(
+                        new ArrayElementsParse(source, openingEntry, delimiters, elements, fromElement, middle),
+                        new ArrayElementsParse(source, openingEntry, delimiters, elements, middle, toElement)
+                );
+                return;
+            }
+            StructuralIndex index = source.structuralIndex;
+            for (int element = fromElement; element < toElement; element++) {
+                int firstEntry = element == 0 ? openingEntry + 1 : delimiters[element - 1] + 1;
+                JsonTape elementTape = source.forkAt(index.positionOf(firstEntry));
+                elements[element] = elementTape.parseNextElement();
+
+                // Each element must run right up to its delimiter, anything else is left for the sequential parse.
+                elementTape.consumeWhiteSpace();
+                if (elementTape.currentIndex != index.positionOf(delimiters[element])) {
+                    throw new JsonParseException("Array element " + element + " did not end at its delimiter.");
+                }
+            }
         }
     }
 }
@@ -0,0 +1,7 @@
+package com.clumd.projects.javajson.core;
+
+public enum JsonToken {
+
+    START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, FIELD_NAME, VALUE_STRING, VALUE_NUMBER, VALUE_BOOLEAN, END_DOCUMENT
+
+}
@@ -53,21 +53,13 @@ class KeyTape extends Tape<String, JsonKeyException> {
         switch (checkCurrentChar()) {
             case '[' -> {
                 currentIndex++;
-                try {
-                    consumeWhiteSpace();
-                    nextElement = switch (checkCurrentChar()) {
-                        case '\'', '"', '`' ->
-                            // special object key accessor E.G. : "foo['bar bar']"
-                                parseObjectAccess(true);
-                        default -> parseArrayAccess();
-                    };
-                } catch (IndexOutOfBoundsException e) {
-                    throw createParseErrorFromOffset(
-                            -1,
-                            "<key reference>",
-                            "Reached end of key before resolving all parts. Are you missing a delimiter?"
-                    );
-                }
+                consumeWhiteSpace();
+                nextElement = switch (checkCurrentChar()) {
+                    case '\'', '"', '`' ->
+                        // special object key accessor E.G. : "foo['bar bar']"
+                            parseObjectAccess(true);
+                    default -> parseArrayAccess();
+                };
             }
             case '.' ->
                 // In parsing, we should not start the key with a dot, despite it can follow other accessors.
@@ -85,11 +77,10 @@ class KeyTape extends Tape<String, JsonKeyException> {
     private String parseArrayAccess() {
         // Go until we find the closing square
         int startingIndex = getCurrentIndex();
-        try {
-            while (checkCurrentChar() != ']') {
-                currentIndex++;
-            }
-        } catch (StringIndexOutOfBoundsException e) {
+        while (hasCharAt(currentIndex) && checkCurrentChar() != ']') {
+            currentIndex++;
+        }
+        if (!hasCharAt(currentIndex)) {
             throw createParseErrorFromOffset(
                     startingIndex - getCurrentIndex(),
                     POSITIVE_INTEGER_TEXT,
@@ -142,35 +133,32 @@ class KeyTape extends Tape<String, JsonKeyException> {
             case '`' ->
                     endOfAdvancedObjectAccess = consumeUntilMatchEndOfAdvancedObjectAccess(enteredAdvancedObjectAccessSafely, "`");
             default -> {
-                try {
-                    while (true) {
-                        switch (checkCurrentChar()) {
-                            case '.':
-                                // Next key is for an object - which can safely follow this object.
-                                String nextKey = '{' + requestRegion(startIndex, currentIndex++);
-                                if (currentIndex >= fullInput.length()) {
-                                    throw createParseErrorFromOffset(
-                                            -1,
-                                            "<object ref> / <end of key>",
-                                            "Trailing dot separator in key suggests more elements, but end of string was found."
-                                    );
-                                }
-                                return nextKey;
-                            case '[':
-                                // Next key is for an array / advanced object accessor - which can safely follow this object.
-                                return '{' + requestRegion(startIndex, currentIndex);
-                            case ' ':
-                                elementsInKeyWithSpaces++;
-                                // Deliberate fallthrough for now as we still want to increase the current index
-                            default:
-                                // Regular part of a key's name
-                                currentIndex++;
-                                break;
-                        }
+                while (hasCharAt(currentIndex)) {
+                    switch (checkCurrentChar()) {
+                        case '.':
+                            // Next key is for an object - which can safely follow this object.
+                            String nextKey = '{' + requestRegion(startIndex, currentIndex++);
+                            if (currentIndex >= fullInput.length()) {
+                                throw createParseErrorFromOffset(
+                                        -1,
+                                        "<object ref> / <end of key>",
+                                        "Trailing dot separator in key suggests more elements, but end of string was found."
+                                );
+                            }
+                            return nextKey;
+                        case '[':
+                            // Next key is for an array / advanced object accessor - which can safely follow this object.
+                            return '{' + requestRegion(startIndex, currentIndex);
+                        case ' ':
+                            elementsInKeyWithSpaces++;
+                            // Deliberate fallthrough for now as we still want to increase the current index
+                        default:
+                            // Regular part of a key's name
+                            currentIndex++;
+                            break;
                     }
-                } catch (StringIndexOutOfBoundsException e) {
-                    return '{' + requestRegion(startIndex, currentIndex);
                 }
+                return '{' + requestRegion(startIndex, currentIndex);
             }
         }
         final int SKIP_KEY_START = 1;
@@ -193,6 +181,12 @@ class KeyTape extends Tape<String, JsonKeyException> {
         int closingQuote = 0;
         while (consuming) {
             while (!checkNextFragment(delimiter)) {
+                if (!hasCharAt(currentIndex)) {
+                    throw createParseError(
+                            "<key reference>",
+                            "Reached end of key before resolving all parts. Are you missing a delimiter?"
+                    );
+                }
                 currentIndex++;
             }
             closingQuote = currentIndex - 1;
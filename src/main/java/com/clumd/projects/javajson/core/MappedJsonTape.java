@@ -0,0 +1,121 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.JsonParseOptions;
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class MappedJsonTape extends ByteTape implements AutoCloseable {
+
+    private static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+    private static final int MAXIMUM_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+    private static final int RETAINED_HISTORY_SIZE = 256;
+
+    private final FileChannel source;
+    private final long fileSize;
+    private final int windowSize;
+    private long windowStart = 0;
+    private long releasedLines = 0;
+
+    public MappedJsonTape(Path file) {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedJsonTape(Path file, int windowSize) {
+        super(JsonParseOptions.defaults());
+        if (file == null) {
+            throw new JsonParseException("You cannot create something from nothing. Input was null.");
+        }
+        this.windowSize = Math.max(windowSize, RETAINED_HISTORY_SIZE * 4);
+        try {
+            source = FileChannel.open(file, StandardOpenOption.READ);
+            fileSize = source.size();
+        } catch (IOException e) {
+            throw new JsonParseException("Failed to read the JSON input from its source.", e);
+        }
+
+        //Sanity Check
+        if (fileSize == 0) {
+            close();
+            throw new JsonParseException("You cannot create something from nothing. Input was empty.");
+        }
+        mapWindow(0, this.windowSize);
+        int byteOrderMarkLength = byteOrderMarkLength(fullInputBytes);
+        if (byteOrderMarkLength > 0) {
+            mapWindow(byteOrderMarkLength, this.windowSize);
+        }
+    }
+
+    @Override
+    char checkCharAt(int absoluteOffset) {
+        hasCharAt(absoluteOffset);
+        return super.checkCharAt(absoluteOffset);
+    }
+
+    @Override
+    boolean hasCharAt(int absoluteOffset) {
+        if (absoluteOffset >= fullInputBytes.limit() && windowStart + absoluteOffset < fileSize && absoluteOffset >= 0) {
+            // A single token has run off the end of the window, so grow it rather than moving it.
+            if (absoluteOffset >= MAXIMUM_WINDOW_SIZE) {
+                throw new JsonParseException("Single JSON token exceeds the largest mappable region of "
+                        + MAXIMUM_WINDOW_SIZE + " bytes, at byte offset " + windowStart + ".");
+            }
+            mapWindow(windowStart, (int) Math.min(
+                    MAXIMUM_WINDOW_SIZE,
+                    Math.max(absoluteOffset + 1L, fullInputBytes.limit() * 2L)
+            ));
+        }
+        return super.hasCharAt(absoluteOffset);
+    }
+
+    @Override
+    String describeErrorPosition(long lineCount) {
+        return super.describeErrorPosition(lineCount) + "\nByte Offset: " + (windowStart + currentIndex);
+    }
+
+    @Override
+    long releasedLineCount() {
+        return releasedLines;
+    }
+
+    @Override
+    void releaseConsumedInput() {
+        // Slide the window forwards once over half of it is spent, unless it already reaches the end of the file.
+        int releasing = currentIndex - RETAINED_HISTORY_SIZE;
+        if (releasing < fullInputBytes.limit() / 2 || windowStart + fullInputBytes.limit() >= fileSize) {
+            return;
+        }
+        for (int byteIndex = 0; byteIndex < releasing; byteIndex++) {
+            if (fullInputBytes.get(byteIndex) == '\n') {
+                releasedLines++;
+            }
+        }
+        mapWindow(windowStart + releasing, windowSize);
+        currentIndex -= releasing;
+    }
+
+    @Override
+    public void close() {
+        try {
+            source.close();
+        } catch (IOException e) {
+            throw new JsonParseException("Failed to close the JSON input source.", e);
+        }
+    }
+
+    private void mapWindow(long fromFileOffset, int requestedSize) {
+        try {
+            fullInputBytes = source.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    fromFileOffset,
+                    Math.min(requestedSize, fileSize - fromFileOffset)
+            );
+            windowStart = fromFileOffset;
+        } catch (IOException e) {
+            throw new JsonParseException("Failed to map the JSON input from byte offset " + fromFileOffset + ".", e);
+        }
+    }
+}
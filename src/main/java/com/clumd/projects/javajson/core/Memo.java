@@ -0,0 +1,88 @@
+package com.clumd.projects.javajson.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * The hashCode and compact text of an object or array, kept once they have been worked out. Only used when asked for
+ * while parsing, as parsed trees are never changed afterwards.
+ * <p>
+ * Text is only kept for the container that asString was called on, from the one pass that wrote it out. The containers
+ * within it are written straight into that same text, rather than each building its own. Every container from the
+ * same parse shares one {@link Budget} of characters, and text is only kept while there is room left in it, so the
+ * memory retained stays bounded however often the tree is written. Hashes are always kept.
+ */
+final class Memo {
+
+    private final Budget budget;
+    // Racing threads can only ever work the same value out twice: each field is an int, boolean or immutable String.
+    private int hash;
+    private boolean hashIsZero;
+    private int height;
+    private String compact;
+
+    Memo(Budget budget) {
+        this.budget = budget;
+    }
+
+    int hashCode(IntSupplier structuralHash) {
+        int known = hash;
+        if (known == 0 && !hashIsZero) {
+            known = structuralHash.getAsInt();
+            if (known == 0) {
+                hashIsZero = true;
+            } else {
+                hash = known;
+            }
+        }
+        return known;
+    }
+
+    int height(IntSupplier measuredHeight) {
+        // Every container is at least 1 high, so 0 means not yet measured.
+        int known = height;
+        if (known == 0) {
+            known = measuredHeight.getAsInt();
+            height = known;
+        }
+        return known;
+    }
+
+    String compact() {
+        // Null unless the full compact text has been kept.
+        return compact;
+    }
+
+    void keepCompact(String fullText) {
+        if (compact == null && !budget.isSpent() && budget.reserve(fullText.length())) {
+            compact = fullText;
+        }
+    }
+
+    /**
+     * The number of characters of text which the containers from one parse may keep between them.
+     */
+    static final class Budget {
+
+        private final AtomicLong remaining;
+
+        Budget(long characters) {
+            remaining = new AtomicLong(Math.max(characters, 0));
+        }
+
+        boolean isSpent() {
+            return remaining.get() == 0;
+        }
+
+        boolean reserve(long characters) {
+            long left;
+            do {
+                left = remaining.get();
+                if (left < characters) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(left, left - characters));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.clumd.projects.javajson.core;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+/**
+ * The elements of an array which holds only LONG values, or only DOUBLE values, kept as a primitive array rather than
+ * one node per element. Nodes are only created for elements when they are first asked for, then kept.
+ */
+final class NumberElements implements Serializable {
+
+    private static final long serialVersionUID = 100L;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final JSType type;
+    // Only the one matching the type is used.
+    private long[] longs;
+    private double[] doubles;
+    private int size = 0;
+    // Each node is only made the first time it is asked for, then the same one is given out every time.
+    private transient Json[] nodes;
+
+    NumberElements(JSType type, int expectedSize) {
+        this.type = type;
+        int capacity = expectedSize > 0 ? expectedSize : INITIAL_CAPACITY;
+        if (type == JSType.LONG) {
+            longs = new long[capacity];
+        } else {
+            doubles = new double[capacity];
+        }
+    }
+
+    static NumberElements of(List<com.clumd.projects.javajson.api.Json> elements) {
+        // Null unless every element is a number of the same type.
+        if (elements.isEmpty()) {
+            return null;
+        }
+        JSType type = elements.get(0).getDataType();
+        if (type != JSType.LONG && type != JSType.DOUBLE) {
+            return null;
+        }
+        NumberElements numbers = new NumberElements(type, elements.size());
+        for (com.clumd.projects.javajson.api.Json element : elements) {
+            if (element.getDataType() != type) {
+                return null;
+            }
+            if (type == JSType.LONG) {
+                numbers.longs[numbers.size++] = element.getLong();
+            } else {
+                numbers.doubles[numbers.size++] = element.getDouble();
+            }
+        }
+        return numbers;
+    }
+
+    JSType type() {
+        return type;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean add(JSType scannedType, JsonTape parsingTape) {
+        // Takes the number the tape just scanned, unless it isn't of our type.
+        if (scannedType != type) {
+            return false;
+        }
+        if (type == JSType.LONG) {
+            if (size == longs.length) {
+                longs = Arrays.copyOf(longs, size * 2);
+            }
+            longs[size++] = parsingTape.scannedLong();
+        } else {
+            if (size == doubles.length) {
+                doubles = Arrays.copyOf(doubles, size * 2);
+            }
+            doubles[size++] = parsingTape.scannedDouble();
+        }
+        return true;
+    }
+
+    void trimToSize() {
+        if (type == JSType.LONG && longs.length > size) {
+            longs = Arrays.copyOf(longs, size);
+        } else if (type == JSType.DOUBLE && doubles.length > size) {
+            doubles = Arrays.copyOf(doubles, size);
+        }
+    }
+
+    synchronized Json nodeAt(int index) {
+        if (nodes == null) {
+            nodes = new Json[size];
+        }
+        if (nodes[index] == null) {
+            nodes[index] = newNodeAt(index);
+        }
+        return nodes[index];
+    }
+
+    private Json newNodeAt(int index) {
+        return type == JSType.LONG ? JSNumber.of(longs[index]) : JSNumber.of(doubles[index]);
+    }
+
+    List<com.clumd.projects.javajson.api.Json> toNodes(int capacity) {
+        List<com.clumd.projects.javajson.api.Json> elements = new ArrayList<>(Math.max(capacity, size + 1));
+        for (int index = 0; index < size; index++) {
+            elements.add(newNodeAt(index));
+        }
+        return elements;
+    }
+
+    long[] toLongArray() {
+        return Arrays.copyOf(longs, size);
+    }
+
+    double[] toDoubleArray() {
+        return Arrays.copyOf(doubles, size);
+    }
+
+    LongStream longStream() {
+        return Arrays.stream(longs, 0, size);
+    }
+
+    DoubleStream doubleStream() {
+        return Arrays.stream(doubles, 0, size);
+    }
+
+    void asString(Appendable result, String separator) throws IOException {
+        // The same text as each element's node would give, with the separator between each.
+        for (int index = 0; index < size; index++) {
+            if (index > 0) {
+                result.append(separator);
+            }
+            result.append(type == JSType.LONG ? String.valueOf(longs[index]) : String.valueOf(doubles[index]));
+        }
+    }
+
+    long utf8Length() {
+        // Without the commas between them.
+        long length = 0;
+        for (int index = 0; index < size; index++) {
+            length += type == JSType.LONG ? Utf8.longLength(longs[index]) : String.valueOf(doubles[index]).length();
+        }
+        return length;
+    }
+
+    void asUtf8(ByteBuffer result) {
+        for (int index = 0; index < size; index++) {
+            if (index > 0) {
+                result.put((byte) ',');
+            }
+            if (type == JSType.LONG) {
+                Utf8.writeLong(longs[index], result);
+            } else {
+                Utf8.writeAscii(String.valueOf(doubles[index]), result);
+            }
+        }
+    }
+
+    List<com.clumd.projects.javajson.api.Json> asList() {
+        return new Nodes();
+    }
+
+    private final class Nodes extends AbstractList<com.clumd.projects.javajson.api.Json> implements RandomAccess {
+
+        @Override
+        public com.clumd.projects.javajson.api.Json get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return nodeAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.clumd.projects.javajson.core;
+
+/**
+ * A bounded table of canonical object key Strings, so every occurrence of the same key in a document (or across
+ * documents, when shared between parses) can be the same String instance.
+ * <p>
+ * Keys are looked up straight from the parse input, so a key which has been seen before costs no allocation at all.
+ * Safe to share between threads: racing inserts can only ever cost a missed deduplication, never a wrong key.
+ */
+public final class ObjectKeyInterner {
+
+    static final int DEFAULT_CAPACITY = 256;
+    private static final int MAXIMUM_CAPACITY = 1 << 20;
+    private static final int MAXIMUM_PROBES = 8;
+
+    private final String[] table;
+    private final int mask;
+
+    public ObjectKeyInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ObjectKeyInterner(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(Math.min(capacity, MAXIMUM_CAPACITY), MAXIMUM_PROBES));
+        if (tableSize < capacity && tableSize < MAXIMUM_CAPACITY) {
+            tableSize <<= 1;
+        }
+        table = new String[tableSize];
+        mask = tableSize - 1;
+    }
+
+    public String intern(String key) {
+        int hash = key.hashCode();
+        for (int probe = 0; probe < MAXIMUM_PROBES; probe++) {
+            int slot = (spread(hash) + probe) & mask;
+            String candidate = table[slot];
+            if (candidate == null) {
+                table[slot] = key;
+                return key;
+            }
+            if (candidate.hashCode() == hash && candidate.equals(key)) {
+                return candidate;
+            }
+        }
+        table[spread(hash) & mask] = key;
+        return key;
+    }
+
+    public int capacity() {
+        return table.length;
+    }
+
+    String intern(Tape<?, ?> source, int fromHere, int toHere, int hash) {
+        // The region must only hold ASCII characters, with the given String.hashCode() of them.
+        int length = toHere - fromHere;
+        for (int probe = 0; probe < MAXIMUM_PROBES; probe++) {
+            int slot = (spread(hash) + probe) & mask;
+            String candidate = table[slot];
+            if (candidate == null) {
+                String key = source.requestRegion(fromHere, toHere);
+                table[slot] = key;
+                return key;
+            }
+            if (candidate.hashCode() == hash && candidate.length() == length && matches(candidate, source, fromHere)) {
+                return candidate;
+            }
+        }
+        // Every nearby slot is taken, so evict rather than growing past our bound.
+        String key = source.requestRegion(fromHere, toHere);
+        table[spread(hash) & mask] = key;
+        return key;
+    }
+
+    private static boolean matches(String candidate, Tape<?, ?> source, int fromHere) {
+        for (int charIndex = 0; charIndex < candidate.length(); charIndex++) {
+            if (candidate.charAt(charIndex) != source.checkCharAt(fromHere + charIndex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,153 @@
+package com.clumd.projects.javajson.core;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The keys of an object, in the order they were added, each mapped to the slot its value is stored in.
+ * <p>
+ * Shapes are immutable, and are reached from an empty root by adding one key at a time. Each shape remembers where
+ * adding a key leads, so every object built with the same sequence of keys from the same root ends up sharing a single
+ * shape, and only needs to store its own values.
+ */
+final class ObjectShape implements Serializable {
+
+    private static final long serialVersionUID = 100L;
+
+    // Objects with keys which are never repeated (e.g. maps keyed by id) shouldn't grow the tree without limit.
+    private static final int MAXIMUM_TRANSITIONS = 8;
+    private static final int HASH_MAP_DEFAULT_BUCKETS = 16;
+
+    private final String[] keys;
+    private transient volatile ObjectShape[] transitions = new ObjectShape[0];
+    private transient volatile int[] iterationOrder;
+    // Each key escaped and quoted for output, worked out the first time any object of this shape is written.
+    private transient volatile String[] quotedKeys;
+    private transient volatile byte[][] quotedUtf8Keys;
+
+    private ObjectShape(String[] keys) {
+        this.keys = keys;
+    }
+
+    static ObjectShape root() {
+        return new ObjectShape(new String[0]);
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    String keyAt(int slot) {
+        return keys[slot];
+    }
+
+    String quotedKeyAt(int slot) {
+        String[] quoted = quotedKeys;
+        if (quoted == null) {
+            quoted = new String[keys.length];
+            for (int each = 0; each < keys.length; each++) {
+                quoted[each] = JsonEscaper.quoted(keys[each]);
+            }
+            quotedKeys = quoted;
+        }
+        return quoted[slot];
+    }
+
+    byte[] quotedUtf8KeyAt(int slot) {
+        byte[][] quoted = quotedUtf8Keys;
+        if (quoted == null) {
+            quoted = new byte[keys.length][];
+            for (int each = 0; each < keys.length; each++) {
+                quoted[each] = Utf8.quoted(keys[each]);
+            }
+            quotedUtf8Keys = quoted;
+        }
+        return quoted[slot];
+    }
+
+    int slotOf(Object key) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        if (key == null) {
+            return -1;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    ObjectShape with(String key) {
+        // The caller must already know the key isn't in this shape.
+        ObjectShape[] known = transitions;
+        ObjectShape found = findTransition(known, key);
+        if (found != null) {
+            return found;
+        }
+        synchronized (this) {
+            known = transitions;
+            found = findTransition(known, key);
+            if (found != null) {
+                return found;
+            }
+            String[] extendedKeys = Arrays.copyOf(keys, keys.length + 1);
+            extendedKeys[keys.length] = key;
+            ObjectShape extended = new ObjectShape(extendedKeys);
+            if (known.length < MAXIMUM_TRANSITIONS) {
+                ObjectShape[] extendedTransitions = Arrays.copyOf(known, known.length + 1);
+                extendedTransitions[known.length] = extended;
+                transitions = extendedTransitions;
+            }
+            return extended;
+        }
+    }
+
+    int[] iterationOrder() {
+        // The slots in the order a default sized HashMap would iterate these keys, shared by every object of this shape.
+        int[] order = iterationOrder;
+        if (order == null) {
+            order = new int[keys.length];
+            for (int slot = 0; slot < keys.length; slot++) {
+                int bucket = bucketOf(keys[slot]);
+                int position = slot;
+                while (position > 0 && bucketOf(keys[order[position - 1]]) > bucket) {
+                    order[position] = order[position - 1];
+                    position--;
+                }
+                order[position] = slot;
+            }
+            iterationOrder = order;
+        }
+        return order;
+    }
+
+    private ObjectShape findTransition(ObjectShape[] known, String key) {
+        int newSlot = keys.length;
+        for (ObjectShape candidate : known) {
+            if (candidate.keys[newSlot] == key) {
+                return candidate;
+            }
+        }
+        for (ObjectShape candidate : known) {
+            if (candidate.keys[newSlot].equals(key)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static int bucketOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (HASH_MAP_DEFAULT_BUCKETS - 1);
+    }
+
+    private Object readResolve() {
+        // Deserialisation skips field initialisers, so start again with no known transitions.
+        return new ObjectShape(keys);
+    }
+}
@@ -0,0 +1,108 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.JsonParseOptions;
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+public final class ReaderJsonTape extends JsonTape {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int RETAINED_HISTORY_SIZE = 256;
+
+    private final Reader source;
+    private char[] buffer;
+    private int bufferedLength = 0;
+    private boolean sourceExhausted = false;
+    private long releasedLines = 0;
+
+    public ReaderJsonTape(Reader source) {
+        this(source, DEFAULT_BUFFER_SIZE);
+    }
+
+    ReaderJsonTape(Reader source, int initialBufferSize) {
+        super(JsonParseOptions.defaults());
+        if (source == null) {
+            throw new JsonParseException("You cannot create something from nothing. Input was null.");
+        }
+        this.source = source;
+        this.buffer = new char[Math.max(initialBufferSize, 1)];
+
+        //Sanity Check
+        if (!hasCharAt(0)) {
+            throw new JsonParseException("You cannot create something from nothing. Input was empty.");
+        }
+    }
+
+    @Override
+    char checkCharAt(int absoluteOffset) {
+        if (!hasCharAt(absoluteOffset)) {
+            throw new IndexOutOfBoundsException("Index " + absoluteOffset + " is beyond the end of the input.");
+        }
+        return buffer[absoluteOffset];
+    }
+
+    @Override
+    boolean hasCharAt(int absoluteOffset) {
+        while (absoluteOffset >= bufferedLength && fillBuffer()) {
+            // Keep reading until we either have the requested char, or run out of input.
+        }
+        return absoluteOffset >= 0 && absoluteOffset < bufferedLength;
+    }
+
+    @Override
+    String requestRegion(int fromHere, int toHere) {
+        // An empty region is always held, even before anything has been read, such as for an error at the very start.
+        if (fromHere < 0 || fromHere > toHere || (toHere > fromHere && !hasCharAt(toHere - 1))) {
+            throw new IndexOutOfBoundsException("Region " + fromHere + " -> " + toHere + " is not held by this tape.");
+        }
+        return new String(buffer, fromHere, toHere - fromHere);
+    }
+
+    @Override
+    long releasedLineCount() {
+        return releasedLines;
+    }
+
+    @Override
+    void releaseConsumedInput() {
+        // Only bother compacting once the consumed part dominates the buffer, keeping some history for error snippets.
+        int releasing = currentIndex - RETAINED_HISTORY_SIZE;
+        if (releasing < buffer.length / 2) {
+            return;
+        }
+        for (int charIndex = 0; charIndex < releasing; charIndex++) {
+            if (buffer[charIndex] == '\n') {
+                releasedLines++;
+            }
+        }
+        System.arraycopy(buffer, releasing, buffer, 0, bufferedLength - releasing);
+        bufferedLength -= releasing;
+        currentIndex -= releasing;
+    }
+
+    private boolean fillBuffer() {
+        if (sourceExhausted) {
+            return false;
+        }
+        if (bufferedLength == buffer.length) {
+            // A single token is larger than the buffer, so we have to grow rather than discard anything.
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int charsRead;
+        try {
+            charsRead = source.read(buffer, bufferedLength, buffer.length - bufferedLength);
+        } catch (IOException e) {
+            throw new JsonParseException("Failed to read the JSON input from its source.", e);
+        }
+        if (charsRead < 0) {
+            sourceExhausted = true;
+            return false;
+        }
+        bufferedLength += charsRead;
+        return true;
+    }
+}
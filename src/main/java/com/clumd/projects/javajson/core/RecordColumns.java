@@ -0,0 +1,299 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
+import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An array of records which all have the same keys, stored as one column per key rather than one object per record.
+ * <p>
+ * LONG, DOUBLE and BOOLEAN columns are held as primitive arrays, STRING columns as an int code per record into a
+ * dictionary of the distinct values. Columns are addressed by index, so tight loops over a column don't look anything
+ * up by name:
+ * <pre>{@code
+ * RecordColumns rows = json.getColumnsAt("rows");
+ * int value = rows.getColumnIndex("value");
+ * long total = 0;
+ * for (int row = 0; row < rows.getRowCount(); row++) {
+ *     total += rows.getLong(value, row);
+ * }
+ * }</pre>
+ */
+public final class RecordColumns implements Serializable {
+
+    private static final long serialVersionUID = 100L;
+
+    // Null when the records were too wide to share a shape, then they are rebuilt from the column names.
+    private final ObjectShape shape;
+    private final String[] columnNames;
+    private final JSType[] columnTypes;
+    // Each column is in exactly one of these, whichever matches its type. STRING columns hold dictionary codes.
+    private final long[][] longColumns;
+    private final double[][] doubleColumns;
+    private final boolean[][] booleanColumns;
+    private final int[][] stringColumns;
+    private final JSString[][] dictionaries;
+    private final int rowCount;
+    // Each record is only built the first time it is asked for, then the same one is given out every time.
+    private transient JSObject[] builtRecords;
+
+    private RecordColumns(ObjectShape shape, String[] columnNames, JSType[] columnTypes, int rowCount) {
+        this.shape = shape;
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.rowCount = rowCount;
+        longColumns = new long[columnNames.length][];
+        doubleColumns = new double[columnNames.length][];
+        booleanColumns = new boolean[columnNames.length][];
+        stringColumns = new int[columnNames.length][];
+        dictionaries = new JSString[columnNames.length][];
+    }
+
+    static RecordColumns of(List<com.clumd.projects.javajson.api.Json> records) {
+        // Null unless every record has the same keys in the same order, each always with the same type of value.
+        if (records.isEmpty() || !(records.get(0) instanceof JSObject first)) {
+            return null;
+        }
+        ObjectShape shape = first.shape();
+        String[] columnNames = shape != null
+                ? columnNamesOf(shape)
+                : first.getKeys().toArray(new String[0]);
+        JSType[] columnTypes = new JSType[columnNames.length];
+        for (int column = 0; column < columnNames.length; column++) {
+            columnTypes[column] = valueOf(first, shape, columnNames, column).getDataType();
+            if (columnTypes[column] == JSType.OBJECT || columnTypes[column] == JSType.ARRAY) {
+                return null;
+            }
+        }
+        for (com.clumd.projects.javajson.api.Json record : records) {
+            if (!(record instanceof JSObject object) || !hasLayout(object, shape, columnNames, columnTypes)) {
+                return null;
+            }
+        }
+
+        RecordColumns recordColumns = new RecordColumns(shape, columnNames, columnTypes, records.size());
+        for (int column = 0; column < columnNames.length; column++) {
+            recordColumns.fillColumn(records, column);
+        }
+        return recordColumns;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public List<String> getColumnNames() {
+        return List.of(columnNames);
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public int getColumnIndex(String columnName) throws KeyNotFoundException {
+        int column = columnOf(columnName);
+        if (column < 0) {
+            throw new KeyNotFoundException("No column named (" + columnName + ") in these records.");
+        }
+        return column;
+    }
+
+    public JSType getColumnType(int column) {
+        return columnTypes[column];
+    }
+
+    public long getLong(int column, int row) throws KeyDifferentTypeException {
+        requireType(column, JSType.LONG);
+        return longColumns[column][row];
+    }
+
+    public double getDouble(int column, int row) throws KeyDifferentTypeException {
+        requireType(column, JSType.DOUBLE);
+        return doubleColumns[column][row];
+    }
+
+    public boolean getBoolean(int column, int row) throws KeyDifferentTypeException {
+        requireType(column, JSType.BOOLEAN);
+        return booleanColumns[column][row];
+    }
+
+    public String getString(int column, int row) throws KeyDifferentTypeException {
+        return dictionaries[column][getStringCode(column, row)].getValue();
+    }
+
+    public int getStringCode(int column, int row) throws KeyDifferentTypeException {
+        // An index into getDictionary(column), equal codes always mean equal strings.
+        requireType(column, JSType.STRING);
+        return stringColumns[column][row];
+    }
+
+    public List<String> getDictionary(int column) throws KeyDifferentTypeException {
+        requireType(column, JSType.STRING);
+        List<String> dictionary = new ArrayList<>(dictionaries[column].length);
+        for (JSString entry : dictionaries[column]) {
+            dictionary.add(entry.getValue());
+        }
+        return dictionary;
+    }
+
+    List<com.clumd.projects.javajson.api.Json> asRecords() {
+        return new Records();
+    }
+
+    synchronized JSObject recordAt(int row) {
+        if (builtRecords == null) {
+            builtRecords = new JSObject[rowCount];
+        }
+        if (builtRecords[row] == null) {
+            builtRecords[row] = buildRecord(row);
+        }
+        return builtRecords[row];
+    }
+
+    Json cellAt(int row, String columnName) {
+        // Straight from the column, without building the record. Null if there is no such row or column.
+        int column = columnOf(columnName);
+        return row >= 0 && row < rowCount && column >= 0 ? cell(column, row) : null;
+    }
+
+    private int columnOf(String columnName) {
+        if (shape != null) {
+            return shape.slotOf(columnName);
+        }
+        for (int column = 0; column < columnNames.length; column++) {
+            if (columnNames[column].equals(columnName)) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    private JSObject buildRecord(int row) {
+        if (shape != null) {
+            com.clumd.projects.javajson.api.Json[] values = new com.clumd.projects.javajson.api.Json[columnNames.length];
+            for (int column = 0; column < columnNames.length; column++) {
+                values[column] = cell(column, row);
+            }
+            return new JSObject(new CompactObjectMap(shape, values));
+        }
+        // Keys are put back in the order the original record iterated them, which gives that same order again.
+        CompactObjectMap children = new CompactObjectMap(ObjectShape.root(), columnNames.length);
+        for (int column = 0; column < columnNames.length; column++) {
+            children.put(columnNames[column], cell(column, row));
+        }
+        return new JSObject(children);
+    }
+
+    private Json cell(int column, int row) {
+        return switch (columnTypes[column]) {
+            case LONG -> JSNumber.of(longColumns[column][row]);
+            case DOUBLE -> JSNumber.of(doubleColumns[column][row]);
+            case BOOLEAN -> booleanColumns[column][row] ? JSBoolean.TRUE : JSBoolean.FALSE;
+            default -> dictionaries[column][stringColumns[column][row]];
+        };
+    }
+
+    private void requireType(int column, JSType requiredType) {
+        if (columnTypes[column] != requiredType) {
+            throw new KeyDifferentTypeException("The Type of column (" + columnNames[column]
+                    + ") was not expected. Expected: " + requiredType + "  ->  Received: " + columnTypes[column]);
+        }
+    }
+
+    private void fillColumn(List<com.clumd.projects.javajson.api.Json> records, int column) {
+        switch (columnTypes[column]) {
+            case LONG -> {
+                long[] values = new long[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    values[row] = valueOf((JSObject) records.get(row), shape, columnNames, column).getLong();
+                }
+                longColumns[column] = values;
+            }
+            case DOUBLE -> {
+                double[] values = new double[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    values[row] = valueOf((JSObject) records.get(row), shape, columnNames, column).getDouble();
+                }
+                doubleColumns[column] = values;
+            }
+            case BOOLEAN -> {
+                boolean[] values = new boolean[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    values[row] = valueOf((JSObject) records.get(row), shape, columnNames, column).getBoolean();
+                }
+                booleanColumns[column] = values;
+            }
+            default -> {
+                int[] codes = new int[rowCount];
+                HashMap<String, Integer> codesByValue = new HashMap<>();
+                List<JSString> dictionary = new ArrayList<>();
+                for (int row = 0; row < rowCount; row++) {
+                    JSString value = (JSString) valueOf((JSObject) records.get(row), shape, columnNames, column);
+                    Integer code = codesByValue.get(value.getValue());
+                    if (code == null) {
+                        code = dictionary.size();
+                        codesByValue.put(value.getValue(), code);
+                        dictionary.add(value);
+                    }
+                    codes[row] = code;
+                }
+                stringColumns[column] = codes;
+                dictionaries[column] = dictionary.toArray(new JSString[0]);
+            }
+        }
+    }
+
+    private static String[] columnNamesOf(ObjectShape shape) {
+        String[] names = new String[shape.size()];
+        for (int slot = 0; slot < names.length; slot++) {
+            names[slot] = shape.keyAt(slot);
+        }
+        return names;
+    }
+
+    private static boolean hasLayout(JSObject record, ObjectShape shape, String[] columnNames, JSType[] columnTypes) {
+        if (shape != null ? record.shape() != shape
+                : record.shape() != null || !Arrays.asList(columnNames).equals(record.getKeys())) {
+            return false;
+        }
+        for (int column = 0; column < columnNames.length; column++) {
+            if (valueOf(record, shape, columnNames, column).getDataType() != columnTypes[column]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Json valueOf(JSObject record, ObjectShape shape, String[] columnNames, int column) {
+        return (Json) (shape != null
+                ? record.children().valueAt(column)
+                : record.children().get(columnNames[column]));
+    }
+
+    private final class Records extends AbstractList<com.clumd.projects.javajson.api.Json> implements RandomAccess {
+
+        @Override
+        public com.clumd.projects.javajson.api.Json get(int row) {
+            if (row < 0 || row >= rowCount) {
+                throw new IndexOutOfBoundsException("Index " + row + " out of bounds for length " + rowCount);
+            }
+            return recordAt(row);
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+    }
+}
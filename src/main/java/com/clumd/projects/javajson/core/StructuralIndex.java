@@ -0,0 +1,209 @@
+package com.clumd.projects.javajson.core;
+
+import java.util.Arrays;
+
+/**
+ * The positions of every token in a JSON input, found with a single pass over it before any parsing happens.
+ * <p>
+ * An entry is recorded for each of {@code { } [ ] : ,}, for both delimiters of every string, and for the first
+ * character of every other value (numbers, booleans, or anything unexpected). Whitespace and comments are never
+ * indexed. Brackets and string delimiters are also paired with the entry which closes them, so whole containers can be
+ * skipped, counted or indexed into without looking at their contents again.
+ */
+final class StructuralIndex {
+
+    private static final int NO_PAIR = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int[] pairs = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private final Tape<?, ?> input;
+
+    StructuralIndex(Tape<?, ?> input) {
+        this.input = input;
+        int[] openBrackets = new int[INITIAL_CAPACITY];
+        int openBracketCount = 0;
+        boolean inValue = false;
+        int index = 0;
+
+        while (input.hasCharAt(index)) {
+            char currentChar = input.checkCharAt(index);
+            switch (currentChar) {
+                case ' ', '\n', '\r', '\t' -> {
+                    inValue = false;
+                    index++;
+                }
+                case '{', '[' -> {
+                    if (openBracketCount == openBrackets.length) {
+                        openBrackets = Arrays.copyOf(openBrackets, openBracketCount * 2);
+                    }
+                    openBrackets[openBracketCount++] = add(index);
+                    inValue = false;
+                    index++;
+                }
+                case '}', ']' -> {
+                    int closing = add(index);
+                    if (openBracketCount > 0) {
+                        pair(openBrackets[--openBracketCount], closing);
+                    }
+                    inValue = false;
+                    index++;
+                }
+                case ':', ',' -> {
+                    add(index);
+                    inValue = false;
+                    index++;
+                }
+                case '"', '\'', '`' -> {
+                    index = indexString(input, index, currentChar);
+                    inValue = false;
+                }
+                case '/', '#' -> {
+                    int afterComment = skipComment(input, index);
+                    if (afterComment == index) {
+                        // Not really a comment, leave it for the parser to complain about.
+                        if (!inValue) {
+                            add(index);
+                        }
+                        inValue = true;
+                        index++;
+                    } else {
+                        inValue = false;
+                        index = afterComment;
+                    }
+                }
+                default -> {
+                    if (!inValue) {
+                        add(index);
+                    }
+                    inValue = true;
+                    index++;
+                }
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int positionOf(int entry) {
+        return positions[entry];
+    }
+
+    int matchingEntryOf(int entry) {
+        return pairs[entry];
+    }
+
+    int firstEntryAtOrAfter(int position) {
+        int found = Arrays.binarySearch(positions, 0, size, position);
+        return found >= 0 ? found : -(found + 1);
+    }
+
+    int countElements(int openingEntry) {
+        // Counts the direct children of a container, by counting its top level commas.
+        int closingEntry = pairs[openingEntry];
+        if (closingEntry == NO_PAIR) {
+            return NO_PAIR;
+        }
+        if (closingEntry == openingEntry + 1) {
+            return 0;
+        }
+        int elements = 1;
+        for (int entry = openingEntry + 1; entry < closingEntry; entry++) {
+            if (pairs[entry] > entry) {
+                entry = pairs[entry];
+            } else if (charOf(entry) == ',') {
+                elements++;
+            }
+        }
+        return elements;
+    }
+
+    int[] delimiterEntriesOf(int openingEntry) {
+        // The comma (or closing bracket) entry after each direct child of a container, or null if it isn't closed.
+        int elementCount = countElements(openingEntry);
+        if (elementCount < 0) {
+            return null;
+        }
+        int[] delimiters = new int[elementCount];
+        int closingEntry = pairs[openingEntry];
+        int seenElements = 0;
+        for (int entry = openingEntry + 1; entry < closingEntry; entry++) {
+            if (pairs[entry] > entry) {
+                entry = pairs[entry];
+            } else if (charOf(entry) == ',') {
+                delimiters[seenElements++] = entry;
+            }
+        }
+        if (elementCount > 0) {
+            delimiters[seenElements] = closingEntry;
+        }
+        return delimiters;
+    }
+
+    char charOf(int entry) {
+        return input.checkCharAt(positions[entry]);
+    }
+
+    private int add(int position) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            pairs = Arrays.copyOf(pairs, size * 2);
+        }
+        positions[size] = position;
+        pairs[size] = NO_PAIR;
+        return size++;
+    }
+
+    private void pair(int openingEntry, int closingEntry) {
+        pairs[openingEntry] = closingEntry;
+        pairs[closingEntry] = openingEntry;
+    }
+
+    private int indexString(Tape<?, ?> input, int openingIndex, char stringDelimiter) {
+        int openingEntry = add(openingIndex);
+        int index = openingIndex + 1;
+        while (input.hasCharAt(index)) {
+            char currentChar = input.checkCharAt(index);
+            if (currentChar == '\\') {
+                index += 2;
+            } else if (currentChar == stringDelimiter) {
+                pair(openingEntry, add(index));
+                return index + 1;
+            } else {
+                index++;
+            }
+        }
+        // Unterminated, so the parser will report it once it gets here.
+        return index;
+    }
+
+    private static int skipComment(Tape<?, ?> input, int commentStart) {
+        int index = commentStart + 1;
+        if (input.checkCharAt(commentStart) == '/') {
+            if (!input.hasCharAt(index)) {
+                return commentStart;
+            }
+            switch (input.checkCharAt(index)) {
+                case '/' -> index++;
+                case '*' -> {
+                    index++;
+                    while (input.hasCharAt(index + 1)
+                            && !(input.checkCharAt(index) == '*' && input.checkCharAt(index + 1) == '/')) {
+                        index++;
+                    }
+                    return input.hasCharAt(index + 1) ? index + 2 : index + 1;
+                }
+                default -> {
+                    return commentStart;
+                }
+            }
+        }
+        while (input.hasCharAt(index) && input.checkCharAt(index) != '\n') {
+            index++;
+        }
+        return index + 1;
+    }
+}
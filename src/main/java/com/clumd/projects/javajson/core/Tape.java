@@ -2,14 +2,11 @@ package com.clumd.projects.javajson.core;
 
 import com.clumd.projects.javajson.exceptions.JsonException;
 
-import java.util.Set;
-
 abstract class Tape<T, E extends JsonException> {
 
     private static final int DEFAULT_PARSE_ERROR_CONTEXT_SIZE = 30;
     private static final String DEFAULT_PARSE_ERROR_CONTEXT_SYMBOL = "_";
-    private static final String DEFAULT_PARSE_ERROR_MESSAGE = "Unexpected symbol found while parsing.";
-    private static final Set<Character> WHITE_SPACE_CHARS = Set.of(' ', '\n', '\r', '\t');
+    static final String DEFAULT_PARSE_ERROR_MESSAGE = "Unexpected symbol found while parsing.";
 
     protected final String fullInput;
     protected int currentIndex = 0;
@@ -23,6 +20,11 @@ abstract class Tape<T, E extends JsonException> {
         }
     }
 
+    Tape() {
+        // Tapes not backed by a String must override checkCharAt, hasCharAt and requestRegion.
+        this.fullInput = null;
+    }
+
     abstract T parseNextElement();
 
     int getCurrentIndex() {
@@ -42,14 +44,16 @@ abstract class Tape<T, E extends JsonException> {
     }
 
     boolean checkNextFragment(String fragment) {
-        if (fragment.length() > fullInput.substring(currentIndex).length()) {
+        if (!hasCharAt(currentIndex + fragment.length() - 1)) {
             return false;
         }
-        boolean matches = fragment.equals(fullInput.substring(currentIndex, currentIndex + fragment.length()));
-        if (matches) {
-            currentIndex += fragment.length();
+        for (int fragmentIndex = 0; fragmentIndex < fragment.length(); fragmentIndex++) {
+            if (checkCharAt(currentIndex + fragmentIndex) != fragment.charAt(fragmentIndex)) {
+                return false;
+            }
         }
-        return matches;
+        currentIndex += fragment.length();
+        return true;
     }
 
     String requestRegion(int fromHere, int toHere) {
@@ -68,21 +72,21 @@ abstract class Tape<T, E extends JsonException> {
         if (currentIndex > DEFAULT_PARSE_ERROR_CONTEXT_SIZE) {
             gotFragment += getNonSpaceSnippetForException();
         } else {
-            gotFragment = fullInput.substring(0, currentIndex);
+            gotFragment = requestRegion(0, currentIndex);
         }
         gotFragment += DEFAULT_PARSE_ERROR_CONTEXT_SYMBOL;
 
         // Count lines til here:
-        int lineCount = 1;
+        long lineCount = 1 + releasedLineCount();
         for (int charIndex = 0; charIndex < currentIndex; charIndex++) {
-            if (fullInput.charAt(charIndex) == '\n') {
+            if (checkCharAt(charIndex) == '\n') {
                 lineCount++;
             }
         }
 
         // Throw the exception
         return newTypedException(customErrorMessage
-                + "\nLine: " + lineCount
+                + describeErrorPosition(lineCount)
                 + "\nReached: " + gotFragment
                 + "\nExpected: " + expectedFragment
         );
@@ -95,29 +99,47 @@ abstract class Tape<T, E extends JsonException> {
     protected abstract E newTypedException(String message);
 
     protected void consumeWhiteSpace() {
-        try {
-            while (true) {
-                if (WHITE_SPACE_CHARS.contains(fullInput.charAt(currentIndex))) {
-                    currentIndex++;
-                } else {
-                    return;
-                }
+        while (true) {
+            if (!hasCharAt(currentIndex)) {
+                throw newTypedException(
+                        "Reached end of input before parsing was complete. Are you missing a terminating delimiter?"
+                );
             }
-        } catch (IndexOutOfBoundsException e) {
-            throw newTypedException(
-                    "Reached end of input before parsing was complete. Are you missing a terminating delimiter?"
-            );
+            if (!isWhiteSpace(checkCharAt(currentIndex))) {
+                return;
+            }
+            currentIndex++;
         }
     }
 
+    static boolean isWhiteSpace(char character) {
+        return switch (character) {
+            case ' ', '\n', '\r', '\t' -> true;
+            default -> false;
+        };
+    }
+
     private char checkCharAtOffsetFromCurrent(int relativeOffset) {
         return checkCharAt(currentIndex + relativeOffset);
     }
 
-    private char checkCharAt(int absoluteOffset) {
+    char checkCharAt(int absoluteOffset) {
         return fullInput.charAt(absoluteOffset);
     }
 
+    boolean hasCharAt(int absoluteOffset) {
+        return absoluteOffset < fullInput.length();
+    }
+
+    String describeErrorPosition(long lineCount) {
+        return "\nLine: " + lineCount;
+    }
+
+    long releasedLineCount() {
+        // Tapes which discard already consumed input must report how many lines they threw away.
+        return 0;
+    }
+
     private String getNonSpaceSnippetForException() {
         // Count back 20 'real' (non-space) characters to show a snippet of "up-to here" code.
         char currentChar;
@@ -128,10 +150,10 @@ abstract class Tape<T, E extends JsonException> {
              snippetIndex--, snippetLength++
         ) {
             currentChar = checkCharAt(snippetIndex);
-            if (WHITE_SPACE_CHARS.contains(currentChar)) {
+            if (isWhiteSpace(currentChar)) {
                 snippetLength--;
             }
         }
-        return fullInput.substring(snippetIndex, currentIndex);
+        return requestRegion(snippetIndex, currentIndex);
     }
 }
@@ -0,0 +1,112 @@
+package com.clumd.projects.javajson.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes the text of nodes straight into UTF-8 bytes, and works out exactly how many bytes that will take beforehand,
+ * so nothing has to be sized by guessing. Unpaired surrogates are written as '?', the same as String.getBytes does.
+ */
+final class Utf8 {
+
+    private static final byte UNMAPPABLE = '?';
+
+    private Utf8() {
+    }
+
+    static long quotedLength(String value) {
+        // The String in quotes, escaped as JsonEscaper would.
+        long length = 2;
+        for (int index = 0; index < value.length(); index++) {
+            char next = value.charAt(index);
+            if (next < 0x80) {
+                String escape = JsonEscaper.escapeOf(next);
+                length += escape == null ? 1 : escape.length();
+            } else if (next < 0x800) {
+                length += 2;
+            } else if (!Character.isSurrogate(next)) {
+                length += 3;
+            } else if (isPairAt(value, index)) {
+                length += 4;
+                index++;
+            } else {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    static void writeQuoted(String value, ByteBuffer result) {
+        result.put((byte) '"');
+        for (int index = 0; index < value.length(); index++) {
+            char next = value.charAt(index);
+            if (next < 0x80) {
+                String escape = JsonEscaper.escapeOf(next);
+                if (escape == null) {
+                    result.put((byte) next);
+                } else {
+                    writeAscii(escape, result);
+                }
+            } else if (next < 0x800) {
+                result.put((byte) (0xC0 | next >> 6)).put((byte) (0x80 | next & 0x3F));
+            } else if (!Character.isSurrogate(next)) {
+                result.put((byte) (0xE0 | next >> 12)).put((byte) (0x80 | next >> 6 & 0x3F)).put((byte) (0x80 | next & 0x3F));
+            } else if (isPairAt(value, index)) {
+                int codePoint = Character.toCodePoint(next, value.charAt(++index));
+                result.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                result.put(UNMAPPABLE);
+            }
+        }
+        result.put((byte) '"');
+    }
+
+    static byte[] quoted(String value) {
+        byte[] result = new byte[(int) quotedLength(value)];
+        writeQuoted(value, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    static void writeAscii(String value, ByteBuffer result) {
+        for (int index = 0; index < value.length(); index++) {
+            result.put((byte) value.charAt(index));
+        }
+    }
+
+    static int longLength(long value) {
+        if (value == Long.MIN_VALUE) {
+            return 20;
+        }
+        int length = value < 0 ? 2 : 1;
+        for (long remaining = Math.abs(value); remaining >= 10; remaining /= 10) {
+            length++;
+        }
+        return length;
+    }
+
+    static void writeLong(long value, ByteBuffer result) {
+        // The same digits as String.valueOf, without making the String.
+        if (value == Long.MIN_VALUE) {
+            writeAscii(String.valueOf(value), result);
+            return;
+        }
+        int length = longLength(value);
+        int end = result.position() + length;
+        if (value < 0) {
+            result.put(result.position(), (byte) '-');
+        }
+        int digit = end;
+        long remaining = Math.abs(value);
+        do {
+            result.put(--digit, (byte) ('0' + remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        result.position(end);
+    }
+
+    private static boolean isPairAt(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index))
+                && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+}
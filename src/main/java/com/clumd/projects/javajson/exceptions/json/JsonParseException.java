@@ -12,4 +12,8 @@ public class JsonParseException extends JsonException {
     public JsonParseException(String reasonForInvalidity) {
         super(reasonForInvalidity);
     }
+
+    public JsonParseException(String reasonForInvalidity, Throwable subException) {
+        super(reasonForInvalidity, subException);
+    }
 }
@@ -0,0 +1,69 @@
+package benchmarks;
+
+import com.clumd.projects.javajson.api.JsonParser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compares parsing UTF-8 bytes directly, against decoding them to a String first and parsing that.
+ * <p>
+ * Not a unit test, run the main method manually.
+ */
+public final class ByteTapeBenchmark {
+
+    private static final int RECORDS = 20_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private ByteTapeBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        byte[] document = createDocument().getBytes(StandardCharsets.UTF_8);
+        System.out.println("Document size: " + document.length + " bytes");
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            parseViaString(document);
+            parseViaBytes(document);
+        }
+
+        long stringNanos = 0;
+        long bytesNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            parseViaString(document);
+            stringNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            parseViaBytes(document);
+            bytesNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("new String(bytes) + parse(String): %.2f ms/op%n", stringNanos / 1e6 / MEASURED_ROUNDS);
+        System.out.printf("parse(byte[]):                     %.2f ms/op%n", bytesNanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    private static void parseViaString(byte[] document) {
+        JsonParser.parse(new String(document, StandardCharsets.UTF_8));
+    }
+
+    private static void parseViaBytes(byte[] document) {
+        JsonParser.parse(document);
+    }
+
+    private static String createDocument() {
+        StringBuilder document = new StringBuilder("[");
+        for (int record = 0; record < RECORDS; record++) {
+            if (record > 0) {
+                document.append(",\n");
+            }
+            document
+                    .append("{\"id\": ").append(record)
+                    .append(", \"name\": \"record number ").append(record).append(" – café\"")
+                    .append(", \"score\": ").append(record * 0.25)
+                    .append(", \"active\": ").append(record % 2 == 0)
+                    .append(", \"tags\": [\"alpha\", \"beta\", \"gamma\"]}");
+        }
+        return document.append(']').toString();
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Compares the heap retained by parsed objects, against the same children held in the HashMaps objects used to be
+ * stored in.
+ * <p>
+ * Not a unit test, run the main method manually (ideally with a fixed heap, e.g. -Xms1g -Xmx1g).
+ */
+public final class ObjectFootprintBenchmark {
+
+    private static final int RECORDS = 200_000;
+
+    private ObjectFootprintBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        String document = createDocument();
+
+        long before = usedHeap();
+        Json parsed = JsonParser.parse(document);
+        long afterParse = usedHeap();
+
+        List<HashMap<String, Json>> equivalentMaps = new ArrayList<>(RECORDS);
+        for (Json record : parsed.getValues()) {
+            HashMap<String, Json> map = new HashMap<>();
+            for (String key : record.getKeys()) {
+                map.put(key, record.getAnyAt(key));
+            }
+            equivalentMaps.add(map);
+        }
+        long afterMaps = usedHeap();
+
+        System.out.printf("Parsed document (compact objects):  %.1f bytes/record%n",
+                (afterParse - before) / (double) RECORDS);
+        System.out.printf("HashMap per record (storage only):  %.1f bytes/record%n",
+                (afterMaps - afterParse) / (double) RECORDS);
+        System.out.println("(retained " + parsed.getValues().size() + " records, " + equivalentMaps.size() + " maps)");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int attempt = 0; attempt < 5; attempt++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String createDocument() {
+        StringBuilder document = new StringBuilder("[");
+        for (int record = 0; record < RECORDS; record++) {
+            if (record > 0) {
+                document.append(',');
+            }
+            document
+                    .append("{\"id\":").append(record)
+                    .append(",\"name\":\"n").append(record).append('"')
+                    .append(",\"score\":").append(record * 0.25)
+                    .append(",\"active\":").append(record % 2 == 0)
+                    .append('}');
+        }
+        return document.append(']').toString();
+    }
+}
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Compares the time taken to write the same document in each of the compact and pretty forms.
+ * <p>
+ * Not a unit test, run the main method manually.
+ */
+public final class SerialisationBenchmark {
+
+    private static final int RECORDS = 20_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private SerialisationBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Json document = JsonParser.parse(createDocument());
+        System.out.println("Document size: " + document.asString().length() + " characters");
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            document.asString();
+            document.toUtf8Bytes();
+            document.asPrettyString();
+            writePretty(document);
+        }
+
+        long compactNanos = 0;
+        long utf8Nanos = 0;
+        long prettyNanos = 0;
+        long prettyWriterNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            document.asString();
+            compactNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            document.toUtf8Bytes();
+            utf8Nanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            document.asPrettyString();
+            prettyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            writePretty(document);
+            prettyWriterNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("asString():                %.2f ms/op%n", compactNanos / 1e6 / MEASURED_ROUNDS);
+        System.out.printf("toUtf8Bytes():             %.2f ms/op%n", utf8Nanos / 1e6 / MEASURED_ROUNDS);
+        System.out.printf("asPrettyString():          %.2f ms/op%n", prettyNanos / 1e6 / MEASURED_ROUNDS);
+        System.out.printf("writePrettyTo(Writer):     %.2f ms/op%n", prettyWriterNanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    private static void writePretty(Json document) {
+        try {
+            document.writePrettyTo(new StringWriter());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String createDocument() {
+        StringBuilder document = new StringBuilder("[");
+        for (int record = 0; record < RECORDS; record++) {
+            if (record > 0) {
+                document.append(",\n");
+            }
+            document
+                    .append("{\"id\": ").append(record)
+                    .append(", \"name\": \"record number ").append(record).append(" – café\"")
+                    .append(", \"score\": ").append(record * 0.25)
+                    .append(", \"active\": ").append(record % 2 == 0)
+                    .append(", \"tags\": [\"alpha\", \"beta\", \"gamma\"]}");
+        }
+        return document.append(']').toString();
+    }
+}
@@ -3,6 +3,13 @@ package com.clumd.projects.javajson.api;
 import com.clumd.projects.javajson.core.BasicJsonBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -43,6 +50,19 @@ public class JsonParserTest {
         assertEquals(jsonObjectConvertedAsString, JsonParser.parse(jsonObject).asString());
     }
 
+    @Test
+    public void stringParseWithLazyMaterialisation() {
+        assertEquals(jsonObjectConvertedAsString, JsonParser.parse(
+                jsonObject, JsonParseOptions.defaults().withLazyMaterialisation(true)).asString());
+    }
+
+    @Test
+    public void byteArrayParseWithLazyMaterialisation() {
+        assertEquals(jsonObjectConvertedAsString, JsonParser.parse(
+                jsonObject.getBytes(StandardCharsets.UTF_8), JsonParseOptions.defaults().withLazyMaterialisation(true)
+        ).asString());
+    }
+
     @Test
     public void stringArrayParse() {
         assertEquals(jsonObjectConvertedAsString, JsonParser.parse(jsonObject.split("\n")).asString());
@@ -53,6 +73,49 @@ public class JsonParserTest {
         assertEquals(jsonObjectConvertedAsString, JsonParser.parse(new ArrayList<>(Arrays.asList(jsonObject.split("\n")))).asString());
     }
 
+    @Test
+    public void readerParse() {
+        assertEquals(jsonObjectConvertedAsString, JsonParser.parse(new StringReader(jsonObject)).asString());
+    }
+
+    @Test
+    public void readerParseLines() {
+        assertEquals(
+                List.of(jsonObjectConvertedAsString, "[1,2]"),
+                JsonParser.parseLines(new StringReader(jsonObject.replace("\n", "") + "\n[1, 2]\n"))
+                        .map(Json::asString)
+                        .toList()
+        );
+    }
+
+    @Test
+    public void inputStreamParse() {
+        assertEquals(jsonObjectConvertedAsString, JsonParser.parse(
+                new ByteArrayInputStream(jsonObject.getBytes(StandardCharsets.UTF_8))).asString());
+    }
+
+    @Test
+    public void byteArrayParse() {
+        assertEquals(jsonObjectConvertedAsString, JsonParser.parse(jsonObject.getBytes(StandardCharsets.UTF_8)).asString());
+    }
+
+    @Test
+    public void byteBufferParse() {
+        assertEquals(jsonObjectConvertedAsString, JsonParser.parse(
+                ByteBuffer.wrap(jsonObject.getBytes(StandardCharsets.UTF_8))).asString());
+    }
+
+    @Test
+    public void pathParse() throws IOException {
+        Path jsonFile = Files.createTempFile("JsonParserTest", ".json");
+        try {
+            Files.writeString(jsonFile, jsonObject);
+            assertEquals(jsonObjectConvertedAsString, JsonParser.parse(jsonFile).asString());
+        } finally {
+            Files.delete(jsonFile);
+        }
+    }
+
     @Test
     public void jsonableParse() {
         assertEquals(jsonObjectConvertedAsString, JsonParser.parse(jsonObjectAsJSONAble).asString());
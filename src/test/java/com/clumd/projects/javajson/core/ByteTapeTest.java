@@ -0,0 +1,114 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ByteTapeTest {
+
+    private static final String NESTED_JSON = "{\"key\": [1, 2.5, 'three', true, {\"inner\": \"value\"}], // comment\n"
+            + "\"other\": {\"a\": [[], {}]}, /* block\ncomment */ \"last\": -3, \"bool\": FALSE}";
+
+    private static byte[] utf8(String input) {
+        return input.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void nullInput() {
+        try {
+            new ByteTape((byte[]) null);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("You cannot create something from nothing. Input was null.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void emptyInput() {
+        try {
+            new ByteTape(new byte[0]);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("You cannot create something from nothing. Input was empty.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void matchesStringTape() {
+        assertEquals(new JsonTape(NESTED_JSON).parseNextElement(), new ByteTape(utf8(NESTED_JSON)).parseNextElement());
+    }
+
+    @Test
+    public void matchesStringTapeFromDirectBuffer() {
+        byte[] bytes = utf8(NESTED_JSON);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertEquals(new JsonTape(NESTED_JSON).parseNextElement(), new ByteTape(direct).parseNextElement());
+    }
+
+    @Test
+    public void onlyParsesFromBufferPosition() {
+        ByteBuffer buffer = ByteBuffer.wrap(utf8("garbage[1,2,3]"));
+        buffer.position(7);
+        assertEquals("[1,2,3]", new ByteTape(buffer).parseNextElement().asString());
+        assertEquals(7, buffer.position());
+    }
+
+    @Test
+    public void multibyteStringContents() {
+        String value = "café 中文 😀";
+        assertEquals(value, new ByteTape(utf8("'" + value + "'")).parseNextElement().getString());
+    }
+
+    @Test
+    public void multibyteStringContentsWithEscapes() {
+        assertEquals("é'é\\é", new ByteTape(utf8("'é\\'é\\\\\\é'")).parseNextElement().getString());
+    }
+
+    @Test
+    public void multibyteObjectKeys() {
+        assertEquals("value", new ByteTape(utf8("{\"über\": \"value\"}")).parseNextElement().getStringAt("über"));
+    }
+
+    @Test
+    public void skipsByteOrderMark() {
+        byte[] withBom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', '1', ']'};
+        assertEquals("[1]", new ByteTape(withBom).parseNextElement().asString());
+    }
+
+    @Test
+    public void errorContextMatchesStringTape() {
+        String input = "{\n\"key\":\n[1, 2, 3\n\"missing comma\"]}";
+        String expected = null;
+        try {
+            new JsonTape(input).parseNextElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            expected = e.getMessage();
+        }
+        try {
+            new ByteTape(utf8(input)).parseNextElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals(expected, e.getMessage());
+        }
+    }
+
+    @Test
+    public void unterminatedString() {
+        try {
+            new ByteTape(utf8("'abc")).parseNextElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Didn't find matching ', before end of string.\n" +
+                    "Line: 1\n" +
+                    "Reached: 'abc_\n" +
+                    "Expected: '", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactObjectMapTest {
+
+    @Test
+    public void iteratesInTheSameOrderAsHashMapForEverySize() {
+        Random random = new Random(14);
+        for (int round = 0; round < 2_000; round++) {
+            int keyCount = random.nextInt(CompactObjectMap.FLAT_THRESHOLD * 3);
+            CompactObjectMap compact = round % 2 == 0 ? new CompactObjectMap() : new CompactObjectMap(ObjectShape.root(), keyCount);
+            HashMap<String, Json> expected = new HashMap<>();
+            for (int key = 0; key < keyCount; key++) {
+                String name = randomKey(random);
+                Json value = JsonParser.parse(Integer.toString(random.nextInt(100)));
+                assertEquals(expected.put(name, value), compact.put(name, value));
+            }
+            compact.trimToSize();
+
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(compact.keySet()));
+            assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(compact.values()));
+            List<String> forEachOrder = new ArrayList<>();
+            compact.forEach((key, value) -> forEachOrder.add(key));
+            assertEquals(new ArrayList<>(expected.keySet()), forEachOrder);
+            assertEquals(expected.size(), compact.size());
+            assertEquals(expected.hashCode(), compact.hashCode());
+            assertEquals(expected, compact);
+            assertEquals(compact, expected);
+        }
+    }
+
+    @Test
+    public void findsKeysByIdentityOrEquality() {
+        CompactObjectMap compact = new CompactObjectMap();
+        Json value = JsonParser.parse("true");
+        compact.put("key", value);
+        assertSame(value, compact.get("key"));
+        assertSame(value, compact.get(new String("key")));
+        assertTrue(compact.containsKey(new String("key")));
+        assertFalse(compact.containsKey("other"));
+        assertFalse(compact.containsKey(null));
+        assertNull(compact.get("other"));
+    }
+
+    @Test
+    public void upgradesOncePastTheThreshold() {
+        CompactObjectMap compact = new CompactObjectMap();
+        HashMap<String, Json> expected = new HashMap<>();
+        for (int key = 0; key <= CompactObjectMap.FLAT_THRESHOLD; key++) {
+            Json value = JsonParser.parse(Integer.toString(key));
+            compact.put("key" + key, value);
+            expected.put("key" + key, value);
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(compact.keySet()));
+        }
+        for (int key = 0; key <= CompactObjectMap.FLAT_THRESHOLD; key++) {
+            assertEquals(key, compact.get("key" + key).getLong());
+        }
+        assertEquals(expected.hashCode(), compact.hashCode());
+    }
+
+    @Test
+    public void emptyMapBehaves() {
+        CompactObjectMap compact = new CompactObjectMap(ObjectShape.root(), 0);
+        compact.trimToSize();
+        assertTrue(compact.isEmpty());
+        assertEquals(0, compact.hashCode());
+        assertEquals(new HashMap<String, Json>(), compact);
+        compact.put("a", JsonParser.parse("1"));
+        assertEquals(1, compact.size());
+    }
+
+    private static String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int character = 0; character < length; character++) {
+            key.append((char) ('a' + random.nextInt(26)));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.clumd.projects.javajson.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndentsTest {
+
+    @Test
+    public void startsEachLineAtItsLevel() {
+        Indents indents = new Indents(2);
+
+        assertEquals("\n", indents.newLineAt(0));
+        assertEquals("\n  ", indents.newLineAt(1));
+        assertEquals("\n      ", indents.newLineAt(3));
+        assertEquals(",\n      ", indents.separatorAt(3));
+        assertEquals(",\n", indents.separatorAt(0));
+    }
+
+    @Test
+    public void reusesTheSameStringForEveryLineAtALevel() {
+        Indents indents = new Indents(4);
+
+        assertSame(indents.newLineAt(2), indents.newLineAt(2));
+        assertSame(indents.separatorAt(2), indents.separatorAt(2));
+    }
+
+    @Test
+    public void growsForDeeplyNestedLevels() {
+        Indents indents = new Indents(1);
+
+        assertEquals("\n" + " ".repeat(100), indents.newLineAt(100));
+        assertEquals(",\n" + " ".repeat(9), indents.separatorAt(9));
+        assertEquals("\n" + " ".repeat(100), indents.newLineAt(100));
+    }
+
+    @Test
+    public void alwaysIndentsByAtLeastOneSpace() {
+        assertEquals("\n  ", new Indents(0).newLineAt(2));
+        assertEquals("\n  ", new Indents(-3).newLineAt(2));
+    }
+}
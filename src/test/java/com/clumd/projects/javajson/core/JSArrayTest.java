@@ -1,6 +1,7 @@
 package com.clumd.projects.javajson.core;
 
 import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParseOptions;
 import com.clumd.projects.javajson.api.JsonParser;
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
@@ -8,6 +9,9 @@ import com.clumd.projects.javajson.exceptions.json.KeyInvalidException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -213,10 +217,10 @@ public class JSArrayTest extends JsonTest {
     public void getValue() {
         List<Json> values = new ArrayList<>(3);
         values.add(new JSArray(new JsonTape("[]")));
-        values.add(new JSNumber(new JsonTape("0")));
-        values.add(new JSNumber(new JsonTape("0.1")));
+        values.add(new JsonTape("0").parseNextElement());
+        values.add(new JsonTape("0.1").parseNextElement());
         values.add(new JSString(new JsonTape("''")));
-        values.add(new JSBoolean(new JsonTape("true")));
+        values.add(new JsonTape("true").parseNextElement());
         values.add(new JSObject(new JsonTape("{}")));
 
         assertEquals(values, array.getValue());
@@ -227,10 +231,10 @@ public class JSArrayTest extends JsonTest {
     public void getValues() {
         List<Json> values = new ArrayList<>(3);
         values.add(new JSArray(new JsonTape("[]")));
-        values.add(new JSNumber(new JsonTape("0")));
-        values.add(new JSNumber(new JsonTape("0.1")));
+        values.add(new JsonTape("0").parseNextElement());
+        values.add(new JsonTape("0.1").parseNextElement());
         values.add(new JSString(new JsonTape("''")));
-        values.add(new JSBoolean(new JsonTape("true")));
+        values.add(new JsonTape("true").parseNextElement());
         values.add(new JSObject(new JsonTape("{}")));
 
         assertEquals(values, array.getValues());
@@ -240,10 +244,10 @@ public class JSArrayTest extends JsonTest {
     public void getValuesNotEqual() {
         List<Json> values = new ArrayList<>(3);
         values.add(new JSArray(new JsonTape("[]")));
-        values.add(new JSNumber(new JsonTape("0")));
-        values.add(new JSNumber(new JsonTape("0.1")));
+        values.add(new JsonTape("0").parseNextElement());
+        values.add(new JsonTape("0.1").parseNextElement());
         values.add(new JSString(new JsonTape("'THE STRING IS DIFFERENT'")));
-        values.add(new JSBoolean(new JsonTape("true")));
+        values.add(new JsonTape("true").parseNextElement());
         values.add(new JSObject(new JsonTape("{}")));
 
         assertNotEquals(values, array.getValue());
@@ -254,10 +258,10 @@ public class JSArrayTest extends JsonTest {
     public void getArray() {
         List<Json> values = new ArrayList<>(3);
         values.add(new JSArray(new JsonTape("[]")));
-        values.add(new JSNumber(new JsonTape("0")));
-        values.add(new JSNumber(new JsonTape("0.1")));
+        values.add(new JsonTape("0").parseNextElement());
+        values.add(new JsonTape("0.1").parseNextElement());
         values.add(new JSString(new JsonTape("''")));
-        values.add(new JSBoolean(new JsonTape("true")));
+        values.add(new JsonTape("true").parseNextElement());
         values.add(new JSObject(new JsonTape("{}")));
 
         assertEquals(values, array.getArray());
@@ -401,10 +405,10 @@ public class JSArrayTest extends JsonTest {
     public void getArrayAtMe() {
         List<Json> values = new ArrayList<>(3);
         values.add(new JSArray(new JsonTape("[]")));
-        values.add(new JSNumber(new JsonTape("0")));
-        values.add(new JSNumber(new JsonTape("0.1")));
+        values.add(new JsonTape("0").parseNextElement());
+        values.add(new JsonTape("0.1").parseNextElement());
         values.add(new JSString(new JsonTape("''")));
-        values.add(new JSBoolean(new JsonTape("true")));
+        values.add(new JsonTape("true").parseNextElement());
         values.add(new JSObject(new JsonTape("{}")));
 
         assertEquals(values, array.getArrayAt(""));
@@ -498,6 +502,23 @@ public class JSArrayTest extends JsonTest {
         assertEquals("[[],0,0.1,\"\",true,{}]", array.asString());
     }
 
+    @Test
+    public void writeToGivesTheSameTextAsAsString() throws IOException {
+        JsonParseOptions columnar = JsonParseOptions.defaults().withColumnarRecords(true);
+        List<Json> arrays = List.of(array, JsonParser.parse("[1, 2, -3]"), JsonParser.parse("[1.5, 2.0, 1e300]"),
+                JsonParser.parse("[{\"a\": 1, \"b\": \"x\"}, {\"a\": 2, \"b\": \"y\"}]", columnar),
+                JsonParser.parse("[[1, [2]], [], [[]]]"));
+
+        for (Json each : arrays) {
+            StringWriter writer = new StringWriter();
+            each.writeTo(writer);
+            assertEquals(each.asString(), writer.toString());
+        }
+        assertEquals("[1,2,-3]", arrays.get(1).asString());
+        assertEquals("[1.5,2.0,1.0E300]", arrays.get(2).asString());
+        assertEquals("[<3>]", arrays.get(1).asString(0));
+    }
+
     @Test
     @Override
     public void asPrettyString() {
@@ -576,10 +597,10 @@ public class JSArrayTest extends JsonTest {
     public void getHashCode() {
         ArrayList<Json> check = new ArrayList<>();
         check.add(new JSArray(new JsonTape("[]")));
-        check.add(new JSNumber(new JsonTape("0")));
-        check.add(new JSNumber(new JsonTape("0.1")));
+        check.add(new JsonTape("0").parseNextElement());
+        check.add(new JsonTape("0.1").parseNextElement());
         check.add(new JSString(new JsonTape("''")));
-        check.add(new JSBoolean(new JsonTape("true")));
+        check.add(new JsonTape("true").parseNextElement());
         check.add(new JSObject(new JsonTape("{}")));
 
         assertEquals(check.hashCode(), array.hashCode(), 0);
@@ -601,4 +622,220 @@ public class JSArrayTest extends JsonTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void lazyArrayMatchesEagerArray() {
+        String input = "[[1, ']'], {\"a\": [2]}, # comment ]\n 3, \"[\"]";
+        Json lazy = new JsonTape(input, JsonParseOptions.defaults().withLazyMaterialisation(true)).parseNextElement();
+        Json eager = new JsonTape(input).parseNextElement();
+        assertEquals(eager, lazy);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertEquals(eager.asPrettyString(), lazy.asPrettyString());
+        assertEquals(4, lazy.getArray().size());
+        assertEquals(2, lazy.getLongAt("[1].a[0]"));
+    }
+
+    @Test
+    public void lazyArrayStillRequiresTerminator() {
+        try {
+            new JsonTape("[[1, 2]", JsonParseOptions.defaults().withLazyMaterialisation(true)).parseNextElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Reached the end of the JSON input before parsing was complete. Are you missing a terminating delimiter?", e.getMessage());
+        }
+    }
+
+    private static final JsonParseOptions PARALLEL = JsonParseOptions.defaults()
+            .withParallelArrays(true)
+            .withParallelArrayThreshold(4);
+
+    private static String recordArray(int records, String lastRecord) {
+        StringBuilder input = new StringBuilder("[\n");
+        for (int i = 0; i < records; i++) {
+            input.append("  {\"id\": ").append(i).append(", \"tags\": [\"a,]\", ").append(i).append("]},\n");
+        }
+        return input.append("  ").append(lastRecord).append("\n]").toString();
+    }
+
+    private static String parseOutcome(String input, JsonParseOptions options) {
+        try {
+            return new JsonTape(input, options).parseNextElement().asString();
+        } catch (JsonParseException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Test
+    public void parallelArrayMatchesSequentialArray() {
+        String input = recordArray(5000, "/* last */ 'end'");
+        Json parallel = new JsonTape(input, PARALLEL).parseNextElement();
+        assertEquals(new JsonTape(input).parseNextElement(), parallel);
+        assertEquals(5001, parallel.getArray().size());
+        assertEquals(1234, parallel.getLongAt("[1234].tags[1]"));
+        assertEquals("end", parallel.getStringAt("[5000]"));
+    }
+
+    @Test
+    public void parallelArrayFromBytes() {
+        String input = recordArray(100, "\"é\"");
+        assertEquals(
+                new JsonTape(input).parseNextElement(),
+                new ByteTape(input.getBytes(StandardCharsets.UTF_8), PARALLEL).parseNextElement()
+        );
+    }
+
+    @Test
+    public void parallelArrayLeavesTapeAfterArray() {
+        JsonTape tape = new JsonTape("{\"a\": [1, 2, 3, 4, 5], \"b\": true}", PARALLEL);
+        assertEquals("{\"a\":[1,2,3,4,5],\"b\":true}", tape.parseNextElement().asString());
+    }
+
+    @Test
+    public void parallelArrayErrorsMatchSequential() {
+        String[] invalidLastRecords = {
+                "{\"id\" 1}",
+                "1 2",
+                "1:2",
+                "",
+                "[1, 2}",
+                "'unterminated"
+        };
+        for (String lastRecord : invalidLastRecords) {
+            String input = recordArray(50, lastRecord);
+            String expected = parseOutcome(input, JsonParseOptions.defaults());
+            assertTrue(expected.contains("\nLine: "), lastRecord);
+            assertEquals(expected, parseOutcome(input, PARALLEL), lastRecord);
+        }
+        assertEquals(parseOutcome("[1, 2, 3, 4,, 5]", JsonParseOptions.defaults()), parseOutcome("[1, 2, 3, 4,, 5]", PARALLEL));
+        assertEquals(parseOutcome("[1, 2, 3, 4, 5}", JsonParseOptions.defaults()), parseOutcome("[1, 2, 3, 4, 5}", PARALLEL));
+    }
+    @Test
+    public void numberArraysKeepTheirElementsAsNodesOnAccess() {
+        String[] inputs = {
+                "[1, 2, 3, 4000000000]",
+                "[1.5, -0.0, 3e10]",
+                "[1, 2, 2.5, 3]",
+                "[1.5, 2, 3]",
+                "[1, 2, 'three', 4]",
+                "[1, [2], 3]",
+                "[ 7 ]",
+                "[]"
+        };
+        String[] expected = {
+                "[1,2,3,4000000000]",
+                "[1.5,-0.0,3.0E10]",
+                "[1,2,2.5,3]",
+                "[1.5,2,3]",
+                "[1,2,\"three\",4]",
+                "[1,[2],3]",
+                "[7]",
+                "[]"
+        };
+        for (int index = 0; index < inputs.length; index++) {
+            Json parsed = new JsonTape(inputs[index]).parseNextElement();
+            assertEquals(expected[index], parsed.asString());
+            assertEquals(JsonParser.parse(expected[index]), parsed);
+            assertEquals(JsonParser.parse(expected[index]).hashCode(), parsed.hashCode());
+            assertEquals(JsonParser.parse(expected[index]).getArray(), parsed.getArray());
+        }
+        Json longs = new JsonTape("[1, 2, 3]").parseNextElement();
+        assertEquals(2, longs.getLongAt("[1]"));
+        assertEquals(JSType.LONG, longs.getArray().get(2).getDataType());
+        assertFalse(longs.contains("[3]"));
+    }
+
+    @Test
+    public void numberArraysGiveTheSameNodeEveryTime() {
+        for (String input : new String[]{"[1.0, 2.5]", "[100000, 200000]"}) {
+            Json parsed = new JsonTape(input).parseNextElement();
+            List<com.clumd.projects.javajson.api.Json> elements = parsed.getArray();
+            assertSame(elements.get(0), elements.get(0));
+            assertSame(elements.get(1), parsed.getArray().get(1));
+            assertSame(elements.get(0), parsed.getAnyAt("[0]"));
+            try {
+                elements.add(elements.get(0));
+                fail("The previous method call should have thrown an exception.");
+            } catch (UnsupportedOperationException e) {
+                assertEquals(2, parsed.getArray().size());
+            }
+        }
+    }
+
+    @Test
+    public void bulkAccessorsReturnPrimitives() {
+        Json parsed = JsonParser.parse("{\"longs\": [3, 1, 2], \"doubles\": [0.5, 1.5], \"empty\": [], \"mixed\": [1, 2.5]}");
+        assertArrayEquals(new long[]{3, 1, 2}, parsed.getLongArrayAt("longs"));
+        assertArrayEquals(new double[]{0.5, 1.5}, parsed.getDoubleArrayAt("doubles"));
+        assertArrayEquals(new long[0], parsed.getLongArrayAt("empty"));
+        assertArrayEquals(new double[0], parsed.getDoubleArrayAt("empty"));
+        assertEquals(6, parsed.getLongStreamAt("longs").sum());
+        assertEquals(2.0, parsed.getDoubleStreamAt("doubles").sum());
+        assertArrayEquals(new long[]{3, 1, 2}, parsed.getAnyAt("longs").getLongArray());
+        assertEquals(3, parsed.getAnyAt("longs").getLongStream().count());
+
+        long[] copy = parsed.getLongArrayAt("longs");
+        copy[0] = 99;
+        assertEquals(3, parsed.getLongAt("longs[0]"));
+    }
+
+    @Test
+    public void bulkAccessorsRejectOtherElementTypes() {
+        Json parsed = JsonParser.parse("{\"mixed\": [1, 2.5], \"strings\": ['a'], \"notArray\": 1}");
+        try {
+            parsed.getLongArrayAt("mixed");
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyDifferentTypeException e) {
+            assertEquals("The Type of element [1] was not expected. Expected: LONG  ->  Received: DOUBLE", e.getMessage());
+        }
+        try {
+            parsed.getDoubleStreamAt("strings");
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyDifferentTypeException e) {
+            assertEquals("The Type of element [0] was not expected. Expected: DOUBLE  ->  Received: STRING", e.getMessage());
+        }
+        try {
+            parsed.getLongArrayAt("notArray");
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyDifferentTypeException e) {
+            assertEquals("The Type of Object found for key (notArray) was not expected. Expected: ARRAY  ->  Received: LONG",
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void numberArraysParsedInParallelOrLazilyMatchSequential() {
+        StringBuilder input = new StringBuilder("[");
+        for (int element = 0; element < 5_000; element++) {
+            input.append(element == 0 ? "" : ", ").append(element * 3);
+        }
+        String numbers = input.append(']').toString();
+        Json sequential = new JsonTape(numbers).parseNextElement();
+        Json parallel = new JsonTape(numbers, PARALLEL).parseNextElement();
+        Json lazy = new JsonTape(numbers, JsonParseOptions.defaults().withLazyMaterialisation(true)).parseNextElement();
+        assertEquals(sequential, parallel);
+        assertEquals(sequential, lazy);
+        assertEquals(3 * 4_999, parallel.getLongAt("[4999]"));
+        assertArrayEquals(sequential.getLongArray(), parallel.getLongArray());
+        assertArrayEquals(sequential.getLongArray(), lazy.getLongArray());
+    }
+
+    @Test
+    public void numberArrayErrorsAreUnchanged() {
+        String[] invalid = {"[1, 2 3]", "[1, 2,]", "[1, -]", "[1, 2.5.5]", "[1, 2"};
+        String[] expected = {
+                "Invalid array child delimiter.\nLine: 1\nReached: [1, 2 _\nExpected: , / ]",
+                "Comma suggests more array elements, but array terminates.\nLine: 1\nReached: [1, 2,_\n"
+                        + "Expected: { / [ / \" / <number> / <boolean> ",
+                "Invalid number format: \"-\"\nLine: 1\nReached: [1, -_\nExpected: <number>",
+                "multiple points\nLine: 1\nReached: [1, 2.5.5_\nExpected: <number>",
+                "Reached the end of the JSON input before parsing was complete. Are you missing a terminating delimiter?"
+        };
+        for (int index = 0; index < invalid.length; index++) {
+            try {
+                new JsonTape(invalid[index]).parseNextElement();
+                fail("The previous method call should have thrown an exception.");
+            } catch (JsonParseException e) {
+                assertEquals(expected[index], e.getMessage());
+            }
+        }
+    }
+}
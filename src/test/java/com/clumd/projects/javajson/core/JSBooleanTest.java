@@ -17,17 +17,21 @@ public class JSBooleanTest extends JsonTest {
     private JSBoolean boolTrue;
     private JSBoolean boolFalse;
 
+    private static JSBoolean parseBoolean(String bool) {
+        return (JSBoolean) new JsonTape(bool).parseNextElement();
+    }
+
     @BeforeEach
     public void setup() {
-        boolTrue = new JSBoolean(new JsonTape("true"));
-        boolFalse = new JSBoolean(new JsonTape("false"));
+        boolTrue = parseBoolean("true");
+        boolFalse = parseBoolean("false");
     }
 
 
     @Test
     public void testTrueRandom() {
         try {
-            new JSBoolean(new JsonTape("TrUe"));
+            parseBoolean("TrUe");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Unexpected symbol found while parsing.\n" +
@@ -40,7 +44,7 @@ public class JSBooleanTest extends JsonTest {
     @Test
     public void testFalseRandom() {
         try {
-            new JSBoolean(new JsonTape("FaLsE"));
+            parseBoolean("FaLsE");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Unexpected symbol found while parsing.\n" +
@@ -127,22 +131,22 @@ public class JSBooleanTest extends JsonTest {
 
     @Override
     public void getValue() {
-        assertTrue(new JSBoolean(new JsonTape("TRUE")).getValue());
+        assertTrue(parseBoolean("TRUE").getValue());
     }
 
     @Test
     public void testTrueAlternative() {
-        assertTrue(new JSBoolean(new JsonTape("True")).getValue());
+        assertTrue(parseBoolean("True").getValue());
     }
 
     @Test
     public void testFALSEAlternative() {
-        assertFalse(new JSBoolean(new JsonTape("FALSE")).getValue());
+        assertFalse(parseBoolean("FALSE").getValue());
     }
 
     @Test
     public void testFalseAlternative() {
-        assertFalse(new JSBoolean(new JsonTape("False")).getValue());
+        assertFalse(parseBoolean("False").getValue());
     }
 
     @Test
@@ -418,7 +422,7 @@ public class JSBooleanTest extends JsonTest {
 
     @Test
     public void checkDoesEqualAgainstSimilarJSBoolean() {
-        assertEquals(boolTrue, new JSBoolean(new JsonTape("TRUE")));
+        assertEquals(boolTrue, parseBoolean("TRUE"));
     }
 
     @SuppressWarnings({"SimplifiableJUnitAssertion", "EqualsBetweenInconvertibleTypes"})
@@ -465,4 +469,13 @@ public class JSBooleanTest extends JsonTest {
         assertEquals("true", boolTrue.convertToJSON().asString());
         assertEquals("false", boolFalse.convertToJSON().asString());
     }
+
+    @Test
+    public void parsedBooleansAreShared() {
+        Json parsed = new JsonTape("[true, TRUE, false, False]").parseNextElement();
+        assertSame(parsed.getAnyAt("[0]"), parsed.getAnyAt("[1]"));
+        assertSame(parsed.getAnyAt("[2]"), parsed.getAnyAt("[3]"));
+        assertSame(JSBoolean.TRUE, parsed.getAnyAt("[0]"));
+        assertEquals(boolTrue, JSBoolean.TRUE);
+    }
 }
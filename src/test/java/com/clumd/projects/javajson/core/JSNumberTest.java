@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,10 +18,14 @@ public class JSNumberTest extends JsonTest {
     private JSNumber numberDouble;
     private JSNumber numberLong;
 
+    private static JSNumber parseNumber(String number) {
+        return (JSNumber) new JsonTape(number).parseNextElement();
+    }
+
     @BeforeEach
     void setUp() {
-        numberDouble = new JSNumber(new JsonTape("1.25"));
-        numberLong = new JSNumber(new JsonTape("321"));
+        numberDouble = parseNumber("1.25");
+        numberLong = parseNumber("321");
     }
 
     @Test
@@ -33,7 +38,7 @@ public class JSNumberTest extends JsonTest {
     @Test
     public void testParseException() {
         try {
-            new JSNumber(new JsonTape("1.1."));
+            parseNumber("1.1.");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("multiple points\n" +
@@ -42,7 +47,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("1.1.1"));
+            parseNumber("1.1.1");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("multiple points\n" +
@@ -51,7 +56,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("123-1"));
+            parseNumber("123-1");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"123-1\"\n" +
@@ -60,7 +65,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("99999999999999999999999999999"));
+            parseNumber("99999999999999999999999999999");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"99999999999999999999999999999\"\n" +
@@ -69,7 +74,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("-9999999999999999999999999999"));
+            parseNumber("-9999999999999999999999999999");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"-9999999999999999999999999999\"\n" +
@@ -78,7 +83,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("--1"));
+            parseNumber("--1");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"--1\"\n" +
@@ -87,7 +92,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("++1"));
+            parseNumber("++1");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"++1\"\n" +
@@ -96,7 +101,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("+-1"));
+            parseNumber("+-1");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"+-1\"\n" +
@@ -105,7 +110,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("^1"));
+            JSNumber.parse(new JsonTape("^1"));
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"\"\n" +
@@ -114,7 +119,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("e^1"));
+            JSNumber.parse(new JsonTape("e^1"));
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"e\"\n" +
@@ -123,7 +128,7 @@ public class JSNumberTest extends JsonTest {
                     "Expected: <number>", e.getMessage());
         }
         try {
-            new JSNumber(new JsonTape("1e-0.05"));
+            parseNumber("1e-0.05");
             fail("The previous method call should have thrown an exception.");
         } catch (JsonParseException e) {
             assertEquals("Invalid number format: \"1e-0.05\"\n" +
@@ -138,8 +143,8 @@ public class JSNumberTest extends JsonTest {
     public void simpleCreateFromString() {
         try {
             numberLong.createFromString("12345");
-            new JSNumber(new JsonTape("1e-005"));
-            new JSNumber(new JsonTape("-4.3e10"));
+            parseNumber("1e-005");
+            parseNumber("-4.3e10");
         } catch (JsonParseException e) {
             fail("Create from string should not throw an exception for valid input.", e);
         }
@@ -494,8 +499,8 @@ public class JSNumberTest extends JsonTest {
 
     @Test
     public void checkDoesEqualAgainstSimilarJSNumber() {
-        assertEquals(numberLong, new JSNumber(new JsonTape("321")));
-        assertEquals(numberDouble, new JSNumber(new JsonTape("1.25")));
+        assertEquals(numberLong, parseNumber("321"));
+        assertEquals(numberDouble, parseNumber("1.25"));
     }
 
     @SuppressWarnings({"SimplifiableJUnitAssertion", "EqualsBetweenInconvertibleTypes"})
@@ -535,4 +540,101 @@ public class JSNumberTest extends JsonTest {
         assertEquals("1.25", numberDouble.convertToJSON().asString());
         assertEquals("321", numberLong.convertToJSON().asString());
     }
-}
\ No newline at end of file
+
+    private static void assertParsesLikeJdk(String number) {
+        // Straight to the number scanner, which also takes forms such as ".5" that a document can't start a value with.
+        JSNumber parsed = JSNumber.parse(new JsonTape(number));
+        if (parsed.getDataType() == JSType.DOUBLE) {
+            assertEquals(
+                    Double.doubleToRawLongBits(Double.parseDouble(number)),
+                    Double.doubleToRawLongBits(parsed.getDouble()),
+                    number
+            );
+        } else {
+            assertEquals(Long.parseLong(number), parsed.getLong(), number);
+        }
+    }
+
+    @Test
+    public void longBoundariesDecodeDirectly() {
+        for (String number : new String[]{"0", "-0", "+7", "007", "9223372036854775807", "-9223372036854775808",
+                "922337203685477580", "-922337203685477580"}) {
+            assertParsesLikeJdk(number);
+        }
+    }
+
+    @Test
+    public void longOverflowKeepsJdkMessage() {
+        try {
+            parseNumber("9223372036854775808");
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Invalid number format: \"9223372036854775808\"\n" +
+                    "Line: 1\n" +
+                    "Reached: 9223372036854775808_\n" +
+                    "Expected: <number>", e.getMessage());
+        }
+    }
+
+    @Test
+    public void awkwardDoublesAreBitIdenticalToJdk() {
+        String[] numbers = {
+                "0.0", "-0.0", "1.", ".5", "-.5", "1e0", "1E+2", "1e-2", "0e999", "1e309", "-1e309", "1e-400",
+                "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "2.2250738585072011e-308",
+                "2.2250738585072012e-308", "1.7976931348623157e308", "1.7976931348623158e308",
+                "1.7976931348623159e308", "9007199254740993.0", "9007199254740995.0", "1e23", "8.41e21",
+                "5e-324", "123456789012345678901234567890.5", "0.1", "0.3", "3.141592653589793",
+                "7.2057594037927933e16", "1.00000000000000011102230246251565404236316680908203125",
+                "0.000000000000000000000000000000000000000000001234", "9999999999999999999.0", "1e22", "1e-22",
+                "4503599627370496.5", "4503599627370497.5", "1.0e+00023", "1E-0000000000000000000000000001"
+        };
+        for (String number : numbers) {
+            assertParsesLikeJdk(number);
+        }
+    }
+
+    @Test
+    public void randomDoublesAreBitIdenticalToJdk() {
+        Random random = new Random(8259);
+        for (int i = 0; i < 20_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(value)) {
+                assertParsesLikeJdk(Double.toString(value));
+            }
+        }
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder number = new StringBuilder(random.nextBoolean() ? "-" : "");
+            int digits = 1 + random.nextInt(19);
+            for (int digit = 0; digit < digits; digit++) {
+                number.append((char) ('0' + random.nextInt(10)));
+            }
+            number.insert(number.length() - random.nextInt(digits), '.');
+            number.append('e').append(random.nextInt(680) - 350);
+            assertParsesLikeJdk(number.toString());
+        }
+    }
+
+    @Test
+    public void parsedSmallLongsAreShared() {
+        Json parsed = new JsonTape("[0, 0, -128, -128, 1023, 1023, 1024, 1024, 1.0, 1.0]").parseNextElement();
+        assertSame(parsed.getAnyAt("[0]"), parsed.getAnyAt("[1]"));
+        assertSame(parsed.getAnyAt("[2]"), parsed.getAnyAt("[3]"));
+        assertSame(parsed.getAnyAt("[4]"), parsed.getAnyAt("[5]"));
+        assertNotSame(parsed.getAnyAt("[6]"), parsed.getAnyAt("[7]"));
+        assertNotSame(parsed.getAnyAt("[8]"), parsed.getAnyAt("[9]"));
+        assertEquals(parsed.getAnyAt("[6]"), parsed.getAnyAt("[7]"));
+        assertEquals(parseNumber("0"), parsed.getAnyAt("[0]"));
+    }
+
+    @Test
+    public void primitiveStorageKeepsEqualitySemantics() {
+        assertEquals(parseNumber("1.5"), parseNumber("1.5"));
+        assertNotEquals(parseNumber("0.0"), parseNumber("-0.0"));
+        assertNotEquals(parseNumber("1"), parseNumber("1.0"));
+        assertEquals(parseNumber("-2.5"), -2.5);
+        assertEquals(parseNumber("-9223372036854775808"), Long.MIN_VALUE);
+        assertNotEquals(parseNumber("1"), 1.0);
+        assertEquals(Double.hashCode(-2.5), parseNumber("-2.5").hashCode());
+        assertEquals(-0.0, parseNumber("-0.0").getValue());
+    }
+}
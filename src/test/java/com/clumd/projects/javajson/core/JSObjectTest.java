@@ -1,6 +1,7 @@
 package com.clumd.projects.javajson.core;
 
 import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParseOptions;
 import com.clumd.projects.javajson.api.JsonParser;
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
@@ -8,6 +9,10 @@ import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -309,10 +314,10 @@ public class JSObjectTest extends JsonTest {
     public void getValues() {
         List<Json> values = new ArrayList<>(3);
         values.add(new JSArray(new JsonTape("[]")));
-        values.add(new JSNumber(new JsonTape("0")));
-        values.add(new JSNumber(new JsonTape("0.1")));
+        values.add(new JsonTape("0").parseNextElement());
+        values.add(new JsonTape("0.1").parseNextElement());
         values.add(new JSString(new JsonTape("''")));
-        values.add(new JSBoolean(new JsonTape("true")));
+        values.add(new JsonTape("true").parseNextElement());
         values.add(new JSObject(new JsonTape("{}")));
 
         assertTrue(values.containsAll(object.getValues()));
@@ -323,10 +328,10 @@ public class JSObjectTest extends JsonTest {
     public void getValuesNotEqual() {
         List<Json> values = new ArrayList<>(3);
         values.add(new JSArray(new JsonTape("[]")));
-        values.add(new JSNumber(new JsonTape("0")));
-        values.add(new JSNumber(new JsonTape("0.1")));
+        values.add(new JsonTape("0").parseNextElement());
+        values.add(new JsonTape("0.1").parseNextElement());
         values.add(new JSString(new JsonTape("'THE STRING IS DIFFERENT'")));
-        values.add(new JSBoolean(new JsonTape("true")));
+        values.add(new JsonTape("true").parseNextElement());
         values.add(new JSObject(new JsonTape("{}")));
 
         assertNotEquals(values, object.getValue());
@@ -571,6 +576,75 @@ public class JSObjectTest extends JsonTest {
         assertEquals("{\"boolean\":true,\"string\":\"\",\"array\":[],\"double\":0.1,\"long\":0,\"object\":{}}", object.asString());
     }
 
+    @Test
+    public void writeToGivesTheSameTextAsAsString() throws IOException {
+        Json nested = JsonParser.parse("{\"a\": {\"b\": [1, 2.5, {\"c\\\"\": \"d\\\\e\"}], \"f\": {}}, \"g\": [], \"h\": false}");
+
+        StringBuilder builder = new StringBuilder("existing,");
+        nested.writeTo(builder);
+        assertEquals("existing," + nested.asString(), builder.toString());
+
+        StringWriter writer = new StringWriter();
+        object.writeTo(writer);
+        assertEquals(object.asString(), writer.toString());
+    }
+
+    @Test
+    public void writePrettyToGivesTheSameTextAsAsPrettyString() throws IOException {
+        Json nested = JsonParser.parse("{\"a\": {\"b\": [1, 2.5, {\"c\": \"d\"}], \"f\": {}}, \"g\": [], \"h\": [[3]]}");
+
+        StringWriter writer = new StringWriter();
+        nested.writePrettyTo(writer);
+        assertEquals(nested.asPrettyString(), writer.toString());
+
+        StringBuilder builder = new StringBuilder();
+        nested.writePrettyTo(builder, 5);
+        assertEquals(nested.asPrettyString(Integer.MAX_VALUE, 5), builder.toString());
+        assertEquals("{\n     \"a\": {\n          \"b\": [\n               1,\n               2.5,\n               {\n"
+                + "                    \"c\": \"d\" \n               } \n          ],\n          \"f\": {} \n     },\n     \"g\": [],\n"
+                + "     \"h\": [\n          [\n               3 \n          ] \n     ] \n}", builder.toString());
+    }
+
+    @Test
+    public void writeToStreamsUtf8WithoutClosing() throws IOException {
+        Json unicode = JsonParser.parse("{\"caf\u00e9\": \"\u00fcber \u2603 \ud83d\ude00\"}");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("The stream belongs to the caller, so should not be closed.");
+            }
+        };
+
+        unicode.writeTo(bytes);
+        assertEquals(unicode.asString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeToPassesOnFailuresOfTheDestination() {
+        Appendable failing = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException("Connection reset");
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException("Connection reset");
+            }
+
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        try {
+            object.writeTo(failing);
+            fail("The previous method call should have thrown an exception.");
+        } catch (IOException e) {
+            assertEquals("Connection reset", e.getMessage());
+        }
+    }
+
     @Test
     @Override
     public void asPrettyString() {
@@ -623,10 +697,10 @@ public class JSObjectTest extends JsonTest {
     public void getHashCode() {
         HashMap<String, Json> check = new HashMap<>();
         check.put("array", new JSArray(new JsonTape("[]")));
-        check.put("long", new JSNumber(new JsonTape("0")));
-        check.put("double", new JSNumber(new JsonTape("0.1")));
+        check.put("long", new JsonTape("0").parseNextElement());
+        check.put("double", new JsonTape("0.1").parseNextElement());
         check.put("string", new JSString(new JsonTape("''")));
-        check.put("boolean", new JSBoolean(new JsonTape("true")));
+        check.put("boolean", new JsonTape("true").parseNextElement());
         check.put("object", new JSObject(new JsonTape("{}")));
 
         assertEquals(check.hashCode(), object.hashCode(), 0);
@@ -663,4 +737,79 @@ public class JSObjectTest extends JsonTest {
         String escape = "{\"\\\\ \\\\ \\\"\":1}";
         assertEquals(escape, new JSObject(new JsonTape(new JSObject(new JsonTape(escape)).asString())).asString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void lazyObjectMatchesEagerObject() {
+        String input = "{\"a\": {\"b\": [1, {\"c\": '}]'}]}, \"d\": /* } */ 2, \"e\": \"\\\"{\"}";
+        Json lazy = new JsonTape(input, JsonParseOptions.defaults().withLazyMaterialisation(true)).parseNextElement();
+        Json eager = new JsonTape(input).parseNextElement();
+        assertEquals(eager, lazy);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertEquals(eager.asString(), lazy.asString());
+        assertEquals("}]", lazy.getStringAt("a.b[1].c"));
+    }
+
+    @Test
+    public void lazyObjectOnlyReportsErrorsOnceAccessed() {
+        Json lazy = new JsonTape("{\"good\": 1, \"bad\": {\"key\" 2}}",
+                JsonParseOptions.defaults().withLazyMaterialisation(true)).parseNextElement();
+        assertEquals(1, lazy.getLongAt("good"));
+        try {
+            lazy.getAnyAt("bad.key");
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Invalid Key:Value separator. Must use a colon(:).\n" +
+                    "Line: 1\n" +
+                    "Reached: {\"good\": 1, \"bad\": {\"key\" _\n" +
+                    "Expected: :", e.getMessage());
+        }
+    }
+
+    @Test
+    public void keyOrderMatchesHashMapEitherSideOfTheCompactThreshold() {
+        for (int keyCount = 1; keyCount <= CompactObjectMap.FLAT_THRESHOLD + 2; keyCount++) {
+            StringBuilder input = new StringBuilder("{");
+            HashMap<String, Integer> expectedOrder = new HashMap<>();
+            for (int key = 0; key < keyCount; key++) {
+                String name = "field" + (key * 7919 % 100);
+                input.append(key == 0 ? "" : ",").append('"').append(name).append("\":").append(key);
+                expectedOrder.put(name, key);
+            }
+            StringBuilder expected = new StringBuilder("{");
+            expectedOrder.forEach((key, value) -> expected.append('"').append(key).append("\":").append(value).append(','));
+            expected.setCharAt(expected.length() - 1, '}');
+
+            Json parsed = new JSObject(new JsonTape(input.append('}').toString()));
+            assertEquals(expected.toString(), parsed.asString());
+            assertEquals(new ArrayList<>(expectedOrder.keySet()), parsed.getKeys());
+        }
+    }
+    @Test
+    public void recordsWithTheSameKeysShareOneShape() {
+        String records = "[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}, {\"name\": \"c\", \"id\": 3}, {\"id\": 4, \"name\": \"d\"}]";
+        List<Json> parsed = new JsonTape(records).parseNextElement().getValues();
+        ObjectShape shared = ((JSObject) parsed.get(0)).shape();
+        assertSame(shared, ((JSObject) parsed.get(1)).shape());
+        assertNotSame(shared, ((JSObject) parsed.get(2)).shape());
+        assertSame(shared, ((JSObject) parsed.get(3)).shape());
+        assertEquals(4, parsed.get(3).getLongAt("id"));
+        assertEquals("c", parsed.get(2).getStringAt("name"));
+        assertEquals("{\"name\":\"c\",\"id\":3}", parsed.get(2).asString());
+        assertEquals("{\"name\":\"a\",\"id\":1}", parsed.get(0).asString());
+    }
+
+    @Test
+    public void recordsParsedInParallelShareOneShape() {
+        StringBuilder records = new StringBuilder("[");
+        for (int record = 0; record < 2_000; record++) {
+            records.append(record == 0 ? "" : ",").append("{\"id\": ").append(record).append(", \"even\": ").append(record % 2 == 0).append('}');
+        }
+        Json parsed = new JsonTape(records.append(']').toString(), JsonParseOptions.defaults()
+                .withParallelArrays(true).withParallelArrayThreshold(16)).parseNextElement();
+        ObjectShape shared = ((JSObject) parsed.getAnyAt("[0]")).shape();
+        for (Json record : parsed.getValues()) {
+            assertSame(shared, ((JSObject) record).shape());
+        }
+        assertEquals(1999, parsed.getLongAt("[1999].id"));
+    }
+}
@@ -7,6 +7,7 @@ import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -469,4 +470,60 @@ public class JSStringTest extends JsonTest {
         assertEquals(escape, new JSString(new JsonTape(new JSString(new JsonTape("'string with \\\\ \\\\ \" characters'")).asString())).asString());
         assertEquals(escape, new JSString(new JsonTape(new JSString(new JsonTape("`string with \\\\ \\\\ \" characters`")).asString())).asString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void unescapedStringTakenWhole() {
+        assertEquals("plain value", new JSString(new JsonTape("\"plain value\"")).getValue());
+        assertEquals("", new JSString(new JsonTape("''")).getValue());
+        assertEquals("é€\uD83D\uDC4D", new JSString(new ByteTape("'é€\uD83D\uDC4D'".getBytes(StandardCharsets.UTF_8))).getValue());
+    }
+
+    @Test
+    public void controlCharacterEscapesAreDecoded() {
+        assertEquals("a\nb\tc\rd\be\ff", new JSString(new JsonTape("'a\\nb\\tc\\rd\\be\\ff'")).getValue());
+        assertEquals("\n", new JSString(new JsonTape("\"\\n\"")).getValue());
+    }
+
+    @Test
+    public void selfEscapesAreKept() {
+        assertEquals("/\\\"'`x", new JSString(new JsonTape("'\\/\\\\\\\"\\'\\`\\x'")).getValue());
+    }
+
+    @Test
+    public void unicodeEscapesAreDecoded() {
+        assertEquals("é and \uD83D\uDC4D", new JSString(new JsonTape("'\\u00e9 and \\uD83D\\udc4d'")).getValue());
+        assertEquals("é", new JSString(new ByteTape("'\\u00E9'".getBytes(StandardCharsets.UTF_8))).getValue());
+    }
+
+    @Test
+    public void escapeBetweenMultibyteCharacters() {
+        assertEquals("é\té", new JSString(new ByteTape("'é\\té'".getBytes(StandardCharsets.UTF_8))).getValue());
+        assertEquals("é'é", new JSString(new ByteTape("'é\\'é'".getBytes(StandardCharsets.UTF_8))).getValue());
+    }
+
+    @Test
+    public void invalidUnicodeEscape() {
+        try {
+            new JSString(new JsonTape("'\\u00g9'"));
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Invalid unicode escape sequence in string.\n" +
+                    "Line: 1\n" +
+                    "Reached: '\\u00_\n" +
+                    "Expected: <hex digit>", e.getMessage());
+        }
+    }
+
+    @Test
+    public void unterminatedAfterEscape() {
+        try {
+            new JSString(new JsonTape("'abc\\"));
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Didn't find matching ', before end of string.\n" +
+                    "Line: 1\n" +
+                    "Reached: 'abc\\_\n" +
+                    "Expected: '", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonEscaperTest {
+
+    @Test
+    public void leavesCleanStringsAsTheyAre() {
+        assertEquals("\"\"", JsonEscaper.quoted(""));
+        assertEquals("\"Hello World\"", JsonEscaper.quoted("Hello World"));
+        assertEquals("\"café ☃ 😀 /\"", JsonEscaper.quoted("café ☃ 😀 /"));
+    }
+
+    @Test
+    public void escapesQuotesBackslashesAndControlCharacters() {
+        assertEquals("\"a\\\"b\\\\c\"", JsonEscaper.quoted("a\"b\\c"));
+        assertEquals("\"\\b\\f\\n\\r\\t\"", JsonEscaper.quoted("\b\f\n\r\t"));
+        assertEquals("\"\\u0000\\u0001\\u001f \\u000b\"", JsonEscaper.quoted("\u0000\u0001\u001f \u000b"));
+        assertEquals("\"\\\"\\\"\"", JsonEscaper.quoted("\"\""));
+        assertEquals("\"\u007f\u0080\"", JsonEscaper.quoted("\u007f\u0080"));
+
+        for (char character = 0; character < 0x20; character++) {
+            assertNotNull(JsonEscaper.escapeOf(character));
+        }
+        assertNull(JsonEscaper.escapeOf(' '));
+        assertNull(JsonEscaper.escapeOf('é'));
+    }
+
+    @Test
+    public void escapedOutputParsesBackToTheSameValues() {
+        String awkward = "tab\tquote\"slash\\newline\nnul\u0000bell\u0007end";
+        Json original = new JSObject(new CompactObjectMap());
+        ((JSObject) original).children().put(awkward, new JSString(awkward));
+
+        Json reparsed = JsonParser.parse(original.asString());
+        assertEquals(awkward, reparsed.getValues().get(0).getString());
+        assertEquals(List.of(awkward), reparsed.getKeys());
+        assertEquals(original, reparsed);
+        assertEquals(original, JsonParser.parse(original.asPrettyString()));
+    }
+
+    @Test
+    public void everyOutputEscapesTheSameWay() {
+        Json small = JsonParser.parse("{\"k\\n\\\"\": [\"v\\t\\\\\", \"\\u0001\"]}");
+        StringBuilder wideText = new StringBuilder("{");
+        for (int key = 0; key < 12; key++) {
+            wideText.append("\"k").append(key).append("\\r\": \"\\b\",");
+        }
+        Json wide = JsonParser.parse(wideText.append("\"last\": 1}").toString());
+
+        assertEquals("{\"k\\n\\\"\":[\"v\\t\\\\\",\"\\u0001\"]}", small.asString());
+        assertEquals("{\n  \"k\\n\\\"\": [\n    \"v\\t\\\\\",\n    \"\\u0001\" \n  ] \n}", small.asPrettyString());
+        for (Json json : List.of(small, wide)) {
+            assertArrayEquals(json.asString().getBytes(StandardCharsets.UTF_8), json.toUtf8Bytes());
+            assertEquals(json, JsonParser.parse(json.asString()));
+        }
+    }
+
+    @Test
+    public void objectsOfTheSameShapeShareTheirEscapedKeys() {
+        List<Json> records = JsonParser.parse("[{\"a\\n\": 1, \"b\": 2}, {\"a\\n\": 3, \"b\": 4}]").getArray();
+        ObjectShape shape = ((JSObject) records.get(0)).shape();
+
+        assertSame(shape, ((JSObject) records.get(1)).shape());
+        assertEquals("\"a\\n\"", shape.quotedKeyAt(0));
+        assertSame(shape.quotedKeyAt(0), shape.quotedKeyAt(0));
+        assertArrayEquals("\"a\\n\"".getBytes(StandardCharsets.UTF_8), shape.quotedUtf8KeyAt(0));
+        assertEquals("{\"b\":2,\"a\\n\":1}", records.get(0).asString());
+        assertEquals("{\"b\":4,\"a\\n\":3}", records.get(1).asString());
+    }
+}
@@ -0,0 +1,121 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParser;
+import com.clumd.projects.javajson.exceptions.json.KeyInvalidException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonKeyCacheTest {
+
+    @Test
+    public void repeatedKeysAreOnlyParsedOnce() {
+        JsonKeyCache cache = new JsonKeyCache();
+        List<String> first = cache.callChainOf("a.b[3].c");
+        List<String> second = cache.callChainOf("a.b[3].c");
+        assertSame(first, second);
+        assertEquals(List.of("{a", "{b", "[3", "{c", ""), first);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void cachedKeysMatchFreshlyParsedKeys() {
+        JsonKeyCache cache = new JsonKeyCache();
+        String[] keys = {"a", "  a.b  ", "[0]", "a['b c'].d", "a[`x.y`][2]", "\tkey\n"};
+        for (String key : keys) {
+            assertEquals(new JsonKey(key, false).getAllKeys(), cache.callChainOf(key));
+            assertEquals(new JsonKey(key, false).getAllKeys(), cache.callChainOf(key));
+        }
+    }
+
+    @Test
+    public void cachedKeysCannotBeChanged() {
+        List<String> callChain = new JsonKeyCache().callChainOf("a.b");
+        try {
+            callChain.set(0, "{c");
+            fail("The previous method call should have thrown an exception.");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(List.of("{a", "{b", ""), callChain);
+        }
+    }
+
+    @Test
+    public void invalidKeysAlwaysThrow() {
+        JsonKeyCache cache = new JsonKeyCache();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                cache.callChainOf("a.");
+                fail("The previous method call should have thrown an exception.");
+            } catch (KeyInvalidException e) {
+                assertTrue(e.getMessage().startsWith("Trailing dot separator in key suggests more elements"));
+            }
+        }
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void staysWithinItsCapacity() {
+        JsonKeyCache cache = new JsonKeyCache(10);
+        assertEquals(16, cache.capacity());
+        for (int key = 0; key < 1_000; key++) {
+            cache.callChainOf("key" + key);
+        }
+        assertEquals(1_000, cache.getMissCount());
+        cache.callChainOf("key999");
+        assertEquals(1, cache.getHitCount());
+
+        cache.clear();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        cache.callChainOf("key999");
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void lookupsUseTheSharedCache() {
+        Json json = JsonParser.parse("{\"a\": {\"b\": [1, 2, {\"c\": 3}]}}");
+        long hitsBefore = JsonKeyCache.shared().getHitCount();
+        for (int lookup = 0; lookup < 10; lookup++) {
+            assertEquals(3, json.getLongAt("a.b[2].c"));
+        }
+        assertTrue(JsonKeyCache.shared().getHitCount() - hitsBefore >= 9);
+        assertEquals(json, json.getAnyAt(" \u000B\f "));
+    }
+
+    @Test
+    public void safeToShareBetweenThreads() throws InterruptedException {
+        JsonKeyCache cache = new JsonKeyCache(8);
+        Json json = JsonParser.parse("{\"a\": [0, 1, 2, 3, 4, 5, 6, 7, 8, 9]}");
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int lookup = 0; lookup < 20_000; lookup++) {
+                        int index = lookup % 10;
+                        List<String> callChain = cache.callChainOf("a[" + index + "]");
+                        assertEquals(List.of("{a", "[" + index, ""), callChain);
+                        assertEquals(index, json.getLongAt("a[" + index + "]"));
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+        assertEquals(80_000, cache.getHitCount() + cache.getMissCount());
+    }
+}
@@ -0,0 +1,179 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class JsonLinesTest {
+
+    private Path jsonFile;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        jsonFile = Files.createTempFile("JsonLinesTest", ".ndjson");
+    }
+
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(jsonFile);
+    }
+
+    private static String manyLines(int count) {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            input.append("{\"id\": ").append(i).append(", \"name\": \"é").append(i).append("\"}\n");
+        }
+        return input.toString();
+    }
+
+    @Test
+    public void readerLines() {
+        assertEquals(
+                List.of("{\"a\":1}", "[2]", "\"three\""),
+                JsonLines.stream(new StringReader("{\"a\": 1}\n[2]\r\n\n   \n\"three\""))
+                        .map(Json::asString)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void readerIsLazy() {
+        assertEquals(
+                "[1]",
+                JsonLines.stream(new StringReader("[1]\n[2, oops\n")).findFirst().orElseThrow().asString()
+        );
+    }
+
+    @Test
+    public void readerErrorReportsLineNumber() {
+        try {
+            JsonLines.stream(new StringReader("[1]\n\n[2]\n[3 4]\n")).collect(Collectors.toList());
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Invalid array child delimiter.\n" +
+                    "Line: 4\n" +
+                    "Reached: [3 _\n" +
+                    "Expected: , / ]", e.getMessage());
+        }
+    }
+
+    @Test
+    public void nullReader() {
+        try {
+            JsonLines.stream((StringReader) null);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("You cannot create something from nothing. Input was null.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void fileLines() throws IOException {
+        Files.writeString(jsonFile, "{\"a\": 1}\n[2]\r\n\n\"three\"", StandardCharsets.UTF_8);
+        try (Stream<Json> lines = JsonLines.stream(jsonFile)) {
+            assertEquals(List.of("{\"a\":1}", "[2]", "\"three\""), lines.map(Json::asString).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void emptyFile() {
+        try (Stream<Json> lines = JsonLines.stream(jsonFile)) {
+            assertEquals(0, lines.count());
+        }
+    }
+
+    @Test
+    public void parallelFileMatchesSequentialReader() throws IOException {
+        String input = manyLines(20000);
+        Files.writeString(jsonFile, input, StandardCharsets.UTF_8);
+
+        List<Json> expected = JsonLines.stream(new StringReader(input)).collect(Collectors.toList());
+        try (Stream<Json> lines = JsonLines.stream(jsonFile)) {
+            assertEquals(expected, lines.parallel().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void parallelFileErrorReportsLineNumber() throws IOException {
+        Files.writeString(jsonFile, manyLines(15000) + "{\"id\" 1}\n" + manyLines(5000), StandardCharsets.UTF_8);
+        try (Stream<Json> lines = JsonLines.stream(jsonFile)) {
+            lines.parallel().forEach(json -> {
+            });
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Invalid Key:Value separator. Must use a colon(:).\n" +
+                    "Line: 15001\n" +
+                    "Reached: {\"id\" _\n" +
+                    "Expected: :", e.getMessage());
+        }
+    }
+
+    @Test
+    public void parallelFileErrorReportsLineNumberWherever() throws IOException {
+        for (int errorLine : new int[]{1, 2, 9000, 17000, 20002}) {
+            Files.writeString(jsonFile, manyLines(errorLine - 1) + "{\"id\" 1}\n \r\n" + manyLines(20000 - errorLine),
+                    StandardCharsets.UTF_8);
+            try (Stream<Json> lines = JsonLines.stream(jsonFile)) {
+                lines.parallel().forEach(json -> {
+                });
+                fail("The previous method call should have thrown an exception.");
+            } catch (JsonParseException e) {
+                assertEquals("Line: " + errorLine, e.getMessage().split("\n")[1]);
+            }
+        }
+    }
+
+    @Test
+    public void readerAndFileAgreeOnBlankLines() throws IOException {
+        String input = "[1]\n \t\r\n\u000B\n[2]\n";
+        Files.writeString(jsonFile, input, StandardCharsets.UTF_8);
+        for (JsonParseException e : new JsonParseException[]{lineError(new StringReader(input)), lineError(jsonFile)}) {
+            assertEquals("Line: 3", e.getMessage().split("\n")[1]);
+        }
+    }
+
+    private static JsonParseException lineError(StringReader input) {
+        try {
+            JsonLines.stream(input).forEach(json -> {
+            });
+        } catch (JsonParseException e) {
+            return e;
+        }
+        return fail("The previous method call should have thrown an exception.");
+    }
+
+    private static JsonParseException lineError(Path input) {
+        try (Stream<Json> lines = JsonLines.stream(input)) {
+            lines.forEach(json -> {
+            });
+        } catch (JsonParseException e) {
+            return e;
+        }
+        return fail("The previous method call should have thrown an exception.");
+    }
+
+    @Test
+    public void missingFile() throws IOException {
+        Files.delete(jsonFile);
+        try {
+            JsonLines.stream(jsonFile);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Failed to read the JSON input from its source.", e.getMessage());
+        }
+    }
+}
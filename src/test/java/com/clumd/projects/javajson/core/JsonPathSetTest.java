@@ -0,0 +1,133 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParseOptions;
+import com.clumd.projects.javajson.api.JsonParser;
+import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
+import com.clumd.projects.javajson.exceptions.json.KeyInvalidException;
+import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPathSetTest {
+
+    private static final Json DOCUMENT = JsonParser.parse("{\"order\": {\"id\": 7, \"customer\": {\"id\": 12, "
+            + "\"name\": \"Ann\"}, \"lines\": [{\"sku\": \"a\", \"qty\": 2}, {\"sku\": \"b\", \"qty\": 1.5}]}, "
+            + "\"tags\": [\"x\", \"y\"], \"with space\": {\"x.y\": true}}");
+
+    @Test
+    public void findsEveryPathInOneLookup() {
+        Map<String, JsonPathResult> results = DOCUMENT.getManyAt(List.of(
+                "order.id", "order.customer.id", "order.customer.name", "order.lines[1].qty", "tags[0]",
+                "['with space'][\"x.y\"]"));
+
+        assertEquals(6, results.size());
+        assertEquals(7, results.get("order.id").getValue().getLong());
+        assertEquals(12, results.get("order.customer.id").getValue().getLong());
+        assertEquals("Ann", results.get("order.customer.name").getValue().getString());
+        assertEquals(1.5, results.get("order.lines[1].qty").getValue().getDouble());
+        assertEquals("x", results.get("tags[0]").getValue().getString());
+        assertTrue(results.get("['with space'][\"x.y\"]").getValue().getBoolean());
+        for (JsonPathResult result : results.values()) {
+            assertTrue(result.isFound());
+            assertEquals(JsonPathResult.Status.FOUND, result.getStatus());
+        }
+    }
+
+    @Test
+    public void reportsFailuresInsteadOfThrowing() {
+        Map<String, JsonPathResult> results = DOCUMENT.getManyAt(List.of(
+                "order.missing", "order.missing.deeper", "tags[5]", "order[0]", "tags.first", "order.id.more"));
+
+        assertEquals(JsonPathResult.Status.MISSING, results.get("order.missing").getStatus());
+        assertEquals(JsonPathResult.Status.MISSING, results.get("order.missing.deeper").getStatus());
+        assertEquals(JsonPathResult.Status.MISSING, results.get("tags[5]").getStatus());
+        assertEquals(JsonPathResult.Status.TYPE_MISMATCH, results.get("order[0]").getStatus());
+        assertEquals(JsonPathResult.Status.TYPE_MISMATCH, results.get("tags.first").getStatus());
+        assertEquals(JsonPathResult.Status.MISSING, results.get("order.id.more").getStatus());
+        for (JsonPathResult result : results.values()) {
+            assertFalse(result.isFound());
+            assertNull(result.getValue());
+        }
+    }
+
+    @Test
+    public void statusMatchesWhatSingleLookupsThrow() {
+        List<String> paths = List.of("order", "order.id", "order.id.x", "order.id[0]", "order.lines", "order.lines[0]",
+                "order.lines[0].sku", "order.lines[2]", "order.lines[2].sku", "order.lines.sku", "order.lines[0][0]",
+                "order[1]", "order.customer.name.first", "tags[1]", "tags[1][0]", "tags.x.y", "nothing",
+                "nothing[0].at.all", "with space", "['with space'].x", "['with space'][\"x.y\"].z");
+        Map<String, JsonPathResult> results = DOCUMENT.getManyAt(paths);
+
+        for (String path : paths) {
+            JsonPathResult.Status expected;
+            try {
+                DOCUMENT.getAnyAt(path);
+                expected = JsonPathResult.Status.FOUND;
+            } catch (KeyDifferentTypeException e) {
+                expected = JsonPathResult.Status.TYPE_MISMATCH;
+            } catch (KeyNotFoundException e) {
+                expected = JsonPathResult.Status.MISSING;
+            }
+            assertEquals(expected, results.get(path).getStatus(), path);
+            if (expected == JsonPathResult.Status.FOUND) {
+                assertSame(DOCUMENT.getAnyAt(path), results.get(path).getValue(), path);
+            }
+        }
+    }
+
+    @Test
+    public void keepsTheOrderPathsWereGivenInWithoutDuplicates() {
+        JsonPathSet paths = JsonPathSet.compile(Arrays.asList("tags[1]", "order.id", "tags[1]", "", "order"));
+
+        assertEquals(List.of("tags[1]", "order.id", "", "order"), paths.getPaths());
+        assertEquals(List.of("tags[1]", "order.id", "", "order"), List.copyOf(paths.lookup(DOCUMENT).keySet()));
+        assertSame(DOCUMENT, paths.lookup(DOCUMENT).get("").getValue());
+    }
+
+    @Test
+    public void compiledSetsApplyToAnyDocument() {
+        JsonPathSet paths = JsonPathSet.compile(List.of("a.b", "a.c[0]"));
+
+        Map<String, JsonPathResult> first = paths.lookup(JsonParser.parse("{\"a\": {\"b\": 1, \"c\": [2]}}"));
+        assertEquals(1, first.get("a.b").getValue().getLong());
+        assertEquals(2, first.get("a.c[0]").getValue().getLong());
+
+        Map<String, JsonPathResult> second = paths.lookup(JsonParser.parse("{\"a\": [1]}"));
+        assertEquals(JsonPathResult.Status.TYPE_MISMATCH, second.get("a.b").getStatus());
+        assertEquals(JsonPathResult.Status.TYPE_MISMATCH, second.get("a.c[0]").getStatus());
+        assertEquals("a.b -> TYPE_MISMATCH", second.get("a.b").toString());
+        assertEquals("a.b -> 1", first.get("a.b").toString());
+    }
+
+    @Test
+    public void worksOnLazilyParsedDocuments() {
+        Json lazy = JsonParser.parse("{\"a\": {\"b\": [1, {\"c\": 3}]}}", JsonParseOptions.defaults().withLazyMaterialisation(true));
+
+        Map<String, JsonPathResult> results = lazy.getManyAt(List.of("a.b[1].c", "a.b[0]", "a.d"));
+        assertEquals(3, results.get("a.b[1].c").getValue().getLong());
+        assertEquals(1, results.get("a.b[0]").getValue().getLong());
+        assertEquals(JsonPathResult.Status.MISSING, results.get("a.d").getStatus());
+    }
+
+    @Test
+    public void rejectsInvalidPathsWhenCompiled() {
+        try {
+            DOCUMENT.getManyAt(List.of("order.id", "order."));
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyInvalidException e) {
+            assertTrue(e.getMessage().startsWith("Trailing dot separator in key suggests more elements"));
+        }
+        try {
+            JsonPathSet.compile(Arrays.asList("order.id", null));
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyInvalidException e) {
+            assertEquals("Key cannot be null", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParser;
+import com.clumd.projects.javajson.exceptions.json.KeyInvalidException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPathTest {
+
+    private static final Json DOCUMENT = JsonParser.parse("{\"a\": {\"b\": [0, 1, 2, {\"c\": 42, \"d\": 1.5, \"e\": true, "
+            + "\"f\": \"text\", \"g\": [1], \"h\": {}}]}, \"with space\": {\"x.y\": 7}}");
+
+    @Test
+    public void readsEveryTypeFromAnyDocument() {
+        assertEquals(42, JsonPath.compile("a.b[3].c").getLong(DOCUMENT));
+        assertEquals(1.5, JsonPath.compile("a.b[3].d").getDouble(DOCUMENT));
+        assertTrue(JsonPath.compile("a.b[3].e").getBoolean(DOCUMENT));
+        assertEquals("text", JsonPath.compile("a.b[3].f").getString(DOCUMENT));
+        assertEquals(List.of(JsonParser.parse("1")), JsonPath.compile("a.b[3].g").getArray(DOCUMENT));
+        assertEquals(JsonParser.parse("{}"), JsonPath.compile("a.b[3].h").getJSONObject(DOCUMENT));
+        assertEquals(JSType.ARRAY, JsonPath.compile("a.b").getDataType(DOCUMENT));
+        assertEquals(7, JsonPath.compile("['with space'][\"x.y\"]").getLong(DOCUMENT));
+
+        JsonPath path = JsonPath.compile("a.b[1]");
+        assertEquals(1, path.getLong(DOCUMENT));
+        assertEquals(5, path.getLong(JsonParser.parse("{\"a\": {\"b\": [4, 5]}}")));
+    }
+
+    @Test
+    public void blankPathsAreTheRoot() {
+        assertSame(DOCUMENT, JsonPath.compile("").getAny(DOCUMENT));
+        assertSame(DOCUMENT, JsonPath.compile("  \t").getAny(DOCUMENT));
+        assertEquals(3, JsonPath.compile(" ").getLong(JsonParser.parse("3")));
+    }
+
+    @Test
+    public void reportsContainment() {
+        assertTrue(JsonPath.compile("a.b[3]").contains(DOCUMENT));
+        assertFalse(JsonPath.compile("a.b[4]").contains(DOCUMENT));
+        assertFalse(JsonPath.compile("a.z").contains(DOCUMENT));
+    }
+
+    @Test
+    public void throwsExactlyWhatKeyLookupsThrow() {
+        String[] paths = {"a.z", "a.b[9]", "a.b.c", "a[0]", "a.b[3].c.d", "a.b[3].f"};
+        for (String path : paths) {
+            JsonPath compiled = JsonPath.compile(path);
+            assertSameFailure(() -> DOCUMENT.getLongAt(path), () -> compiled.getLong(DOCUMENT));
+            assertSameFailure(() -> DOCUMENT.getDoubleAt(path), () -> compiled.getDouble(DOCUMENT));
+            assertSameFailure(() -> DOCUMENT.getStringAt(path), () -> compiled.getString(DOCUMENT));
+            assertSameFailure(() -> DOCUMENT.getBooleanAt(path), () -> compiled.getBoolean(DOCUMENT));
+            assertSameFailure(() -> DOCUMENT.getArrayAt(path), () -> compiled.getArray(DOCUMENT));
+            assertSameFailure(() -> DOCUMENT.getJSONObjectAt(path), () -> compiled.getJSONObject(DOCUMENT));
+        }
+    }
+
+    @Test
+    public void rejectsInvalidPathsWhenCompiled() {
+        try {
+            JsonPath.compile("a.");
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyInvalidException e) {
+            assertTrue(e.getMessage().startsWith("Trailing dot separator in key suggests more elements"));
+        }
+        try {
+            JsonPath.compile(null);
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyInvalidException e) {
+            assertEquals("Key cannot be null", e.getMessage());
+        }
+    }
+
+    @Test
+    public void equalByTheirText() {
+        assertEquals(JsonPath.compile("a.b[3]"), JsonPath.compile("a.b[3]"));
+        assertEquals(JsonPath.compile("a.b[3]").hashCode(), JsonPath.compile("a.b[3]").hashCode());
+        assertNotEquals(JsonPath.compile("a.b[3]"), JsonPath.compile("a.b[2]"));
+        assertEquals("a.b[3]", JsonPath.compile("a.b[3]").toString());
+    }
+
+    private static void assertSameFailure(Supplier<Object> keyLookup, Supplier<Object> pathLookup) {
+        String expected;
+        try {
+            expected = "returned " + keyLookup.get();
+        } catch (RuntimeException e) {
+            expected = e.getClass().getName() + ": " + e.getMessage();
+        }
+        String actual;
+        try {
+            actual = "returned " + pathLookup.get();
+        } catch (RuntimeException e) {
+            actual = e.getClass().getName() + ": " + e.getMessage();
+        }
+        assertEquals(expected, actual);
+    }
+}
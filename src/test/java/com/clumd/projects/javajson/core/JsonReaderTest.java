@@ -0,0 +1,179 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.JsonParser;
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class JsonReaderTest {
+
+    private static List<JsonToken> allTokens(JsonReader reader) {
+        List<JsonToken> tokens = new ArrayList<>();
+        JsonToken token;
+        do {
+            token = reader.nextToken();
+            tokens.add(token);
+        } while (token != JsonToken.END_DOCUMENT);
+        return tokens;
+    }
+
+    private static String outcomeOfWalking(String input) {
+        try {
+            allTokens(new JsonReader(new JsonTape(input)));
+            return "valid";
+        } catch (JsonParseException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static String outcomeOfParsing(String input) {
+        try {
+            new JsonTape(input).parseNextElement();
+            return "valid";
+        } catch (JsonParseException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Test
+    public void tokensOfNestedDocument() {
+        assertEquals(List.of(
+                JsonToken.START_OBJECT,
+                JsonToken.FIELD_NAME, JsonToken.VALUE_STRING,
+                JsonToken.FIELD_NAME, JsonToken.START_ARRAY,
+                JsonToken.VALUE_NUMBER, JsonToken.VALUE_NUMBER, JsonToken.VALUE_BOOLEAN,
+                JsonToken.START_OBJECT, JsonToken.END_OBJECT,
+                JsonToken.END_ARRAY,
+                JsonToken.END_OBJECT,
+                JsonToken.END_DOCUMENT
+        ), allTokens(new JsonReader(new JsonTape("{'a': \"x\", 'b': [1, 2.5, true, {}]}"))));
+    }
+
+    @Test
+    public void scalarRoot() {
+        JsonReader reader = new JsonReader(new JsonTape("  42  "));
+        assertEquals(42, reader.nextLong());
+        assertEquals(JsonToken.END_DOCUMENT, reader.nextToken());
+        assertEquals(JsonToken.END_DOCUMENT, reader.nextToken());
+    }
+
+    @Test
+    public void primitiveAccessors() {
+        JsonReader reader = new JsonReader(new JsonTape("{\"id\": 7, \"score\": 1.5, \"ok\": false, \"name\": 'bob'}"));
+        assertEquals(JsonToken.START_OBJECT, reader.nextToken());
+        assertEquals("id", reader.nextFieldName());
+        assertEquals(7, reader.nextLong());
+        assertEquals("score", reader.nextFieldName());
+        assertEquals(1.5, reader.nextDouble());
+        assertEquals("ok", reader.nextFieldName());
+        assertFalse(reader.nextBoolean());
+        assertEquals("name", reader.nextFieldName());
+        assertEquals("bob", reader.nextString());
+        assertEquals(JsonToken.END_OBJECT, reader.nextToken());
+    }
+
+    @Test
+    public void accessorOfWrongType() {
+        JsonReader reader = new JsonReader(new JsonTape("[1.5, 'a']"));
+        reader.nextToken();
+        try {
+            reader.nextLong();
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyDifferentTypeException e) {
+            assertEquals("This number is a double, not a long.", e.getMessage());
+        }
+        try {
+            reader.nextLong();
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyDifferentTypeException e) {
+            assertEquals("The current token is VALUE_STRING, not a number.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void skipChildren() {
+        JsonReader reader = new JsonReader(new JsonTape("{\"skip\": {\"a\": [1, \"}\"], \"b\": {}}, \"keep\": 3}"));
+        reader.nextToken();
+        assertEquals("skip", reader.nextFieldName());
+        assertEquals(JsonToken.START_OBJECT, reader.nextToken());
+        reader.skipChildren();
+        assertEquals(JsonToken.END_OBJECT, reader.currentToken());
+        assertEquals(1, reader.getDepth());
+        assertEquals("keep", reader.nextFieldName());
+        assertEquals(3, reader.nextLong());
+        assertEquals(JsonToken.END_OBJECT, reader.nextToken());
+        assertEquals(JsonToken.END_DOCUMENT, reader.nextToken());
+    }
+
+    @Test
+    public void skipChildrenOfScalarDoesNothing() {
+        JsonReader reader = new JsonReader(new JsonTape("[1, 2]"));
+        reader.nextToken();
+        reader.nextToken();
+        reader.skipChildren();
+        assertEquals(JsonToken.VALUE_NUMBER, reader.currentToken());
+        assertEquals(2, reader.nextLong());
+    }
+
+    @Test
+    public void readTreeOfPartOfDocument() {
+        JsonReader reader = new JsonReader(new JsonTape("{\"a\": {\"b\": [1, 2]}, \"c\": 'd'}"));
+        reader.nextToken();
+        reader.nextFieldName();
+        assertEquals("{\"b\":[1,2]}", reader.readTree().asString());
+        assertEquals(JsonToken.END_OBJECT, reader.currentToken());
+        assertEquals("c", reader.nextFieldName());
+        assertEquals("\"d\"", reader.readTree().asString());
+        assertEquals(JsonToken.END_OBJECT, reader.nextToken());
+    }
+
+    @Test
+    public void readsFromStreamingTape() {
+        StringBuilder input = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            input.append(i).append(",\n");
+        }
+        input.append("-1]");
+
+        JsonReader reader = JsonParser.reader(new StringReader(input.toString()));
+        assertEquals(JsonToken.START_ARRAY, reader.nextToken());
+        long total = 0;
+        while (reader.nextToken() != JsonToken.END_ARRAY) {
+            total += reader.getLong();
+        }
+        assertEquals(1999L * 2000 / 2 - 1, total);
+    }
+
+    @Test
+    public void errorsMatchTreeParser() {
+        String[] inputs = {
+                "[1, 2 3]",
+                "[1, 2,]",
+                "[, 1]",
+                "{\"a\" 1}",
+                "{\"a\": 1,}",
+                "{\"a\": 1 \"b\": 2}",
+                "{1: 2}",
+                "{'': 2}",
+                "{\"a\": [1, {\"b\": tru}]}",
+                "[1.2.3]",
+                "['unterminated",
+                "[1, 2",
+                "[1, @]"
+        };
+        for (String input : inputs) {
+            String expected = outcomeOfParsing(input);
+            assertTrue(!expected.equals("valid"), input);
+            assertEquals(expected, outcomeOfWalking(input), input);
+        }
+    }
+}
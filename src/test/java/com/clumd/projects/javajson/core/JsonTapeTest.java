@@ -1,5 +1,6 @@
 package com.clumd.projects.javajson.core;
 
+import com.clumd.projects.javajson.api.JsonParseOptions;
 import com.clumd.projects.javajson.exceptions.json.JsonParseException;
 import org.junit.jupiter.api.Test;
 
@@ -36,7 +37,7 @@ class JsonTapeTest {
 
     @Test
     public void consumeMultilineSlashStarDoesntAffectInString() {
-        assertEquals("{\"Key\":\"Str\ning /*co\nmment*/ Val\nue\"}", new JsonTape("{\"Key\": \"Str\ning /*co\nmment*/ Val\nue\"}").parseNextElement().asString());
+        assertEquals("{\"Key\":\"Str\\ning /*co\\nmment*/ Val\\nue\"}", new JsonTape("{\"Key\": \"Str\ning /*co\nmment*/ Val\nue\"}").parseNextElement().asString());
     }
 
     @Test
@@ -195,7 +196,7 @@ class JsonTapeTest {
 
     @Test
     public void consumeWhiteSpace() {
-        assertEquals("{\"key \n\r\t\":[1,\"string\"]}", new JsonTape(" \n\r\t{ \n\r\t\"key \n\r\t\" \n\r\t: \n\r\t[ \n\r\t1 \n\r\t, \n\r\t\"string\" \n\r\t] \n\r\t} \n\r\t").parseNextElement().asString());
+        assertEquals("{\"key \\n\\r\\t\":[1,\"string\"]}", new JsonTape(" \n\r\t{ \n\r\t\"key \n\r\t\" \n\r\t: \n\r\t[ \n\r\t1 \n\r\t, \n\r\t\"string\" \n\r\t] \n\r\t} \n\r\t").parseNextElement().asString());
     }
 
     @Test
@@ -293,4 +294,93 @@ class JsonTapeTest {
                     "Expected: { / [ / \" / <number> / <boolean> ", e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void skipElementMatchesBrackets() {
+        String input = "{\"a\": [1, {\"b\": {}}], \"c\": []} trailing";
+        JsonTape tape = new JsonTape(input);
+        tape.skipElement();
+        assertEquals(input.indexOf(" trailing"), tape.getCurrentIndex());
+    }
+
+    @Test
+    public void skipElementIgnoresBracketsInStrings() {
+        String input = "['}', \"]\", `{`, '\\']'] trailing";
+        JsonTape tape = new JsonTape(input);
+        tape.skipElement();
+        assertEquals(input.indexOf(" trailing"), tape.getCurrentIndex());
+    }
+
+    @Test
+    public void skipElementIgnoresBracketsInComments() {
+        String input = "[1, // ]\n2 /* ] */, # ]\n3] trailing";
+        JsonTape tape = new JsonTape(input);
+        tape.skipElement();
+        assertEquals(input.indexOf(" trailing"), tape.getCurrentIndex());
+    }
+
+    @Test
+    public void skipElementNeedsTerminator() {
+        try {
+            new JsonTape("[[1, \"]\"]").skipElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Reached the end of the JSON input before parsing was complete. Are you missing a terminating delimiter?", e.getMessage());
+        }
+    }
+
+    private static String parseOutcome(String input, JsonParseOptions options) {
+        try {
+            return new JsonTape(input, options).parseNextElement().asString();
+        } catch (JsonParseException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Test
+    public void structuralIndexMatchesPlainParse() {
+        JsonParseOptions indexed = JsonParseOptions.defaults().withStructuralIndex(true);
+        String[] inputs = {
+                "  {\"a\" : [1, 2.5e3 ,  {\"b\": null}],\n\t\"c\": 'x, ]'  }  ",
+                "[ /* comment */ 1, // line\n 2, # hash\n 3 ]",
+                "{\"Key\": \"String /*comment*/ Value\"}",
+                "[1,  2  3]",
+                "{\"a\"  1}",
+                "[1, 2",
+                "{/ *text*/}",
+                "[\"unterminated",
+                "  [  ]  ",
+                "[tru ]",
+                "{\"a\": {\"b\": [[], {}]} , }"
+        };
+        for (String input : inputs) {
+            assertEquals(parseOutcome(input, JsonParseOptions.defaults()), parseOutcome(input, indexed), input);
+            assertEquals(
+                    parseOutcome(input, JsonParseOptions.defaults().withLazyMaterialisation(true)),
+                    parseOutcome(input, indexed.withLazyMaterialisation(true)),
+                    input
+            );
+        }
+    }
+
+    @Test
+    public void structuralIndexSkipsWholeElement() {
+        String input = "{\"a\": [1, \"]\", {\"b\": 2}]} trailing";
+        JsonTape tape = new JsonTape(input, JsonParseOptions.defaults().withStructuralIndex(true));
+        tape.skipElement();
+        assertEquals(input.indexOf(" trailing"), tape.currentIndex);
+    }
+
+    @Test
+    public void lazyChildrenReportLinesWithinTheWholeSource() {
+        JsonTape tape = new JsonTape("[\n[1,\n x]]", JsonParseOptions.defaults().withLazyMaterialisation(true))
+                .startingAtLine(10);
+        Json lazy = tape.parseNextElement();
+        try {
+            lazy.asString();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Line: 12", e.getMessage().split("\n")[1]);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MappedJsonTapeTest {
+
+    private Path jsonFile;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        jsonFile = Files.createTempFile("MappedJsonTapeTest", ".json");
+    }
+
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(jsonFile);
+    }
+
+    private static String manyLineArray(String ending) {
+        StringBuilder input = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            input.append("{\"id\": ").append(i).append(", \"name\": 'é").append(i).append("'},\n");
+        }
+        return input.append(ending).toString();
+    }
+
+    @Test
+    public void nullFile() {
+        try {
+            new MappedJsonTape(null);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("You cannot create something from nothing. Input was null.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void emptyFile() {
+        try {
+            new MappedJsonTape(jsonFile);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("You cannot create something from nothing. Input was empty.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void missingFile() throws IOException {
+        Files.delete(jsonFile);
+        try {
+            new MappedJsonTape(jsonFile);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Failed to read the JSON input from its source.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void matchesStringTape() throws IOException {
+        String input = manyLineArray("1]");
+        Files.writeString(jsonFile, input, StandardCharsets.UTF_8);
+        try (MappedJsonTape tape = new MappedJsonTape(jsonFile)) {
+            assertEquals(new JsonTape(input).parseNextElement(), tape.parseNextElement());
+        }
+    }
+
+    @Test
+    public void matchesStringTapeWithSlidingWindow() throws IOException {
+        String input = manyLineArray("1]");
+        Files.writeString(jsonFile, input, StandardCharsets.UTF_8);
+        try (MappedJsonTape tape = new MappedJsonTape(jsonFile, 1024)) {
+            assertEquals(new JsonTape(input).parseNextElement(), tape.parseNextElement());
+        }
+    }
+
+    @Test
+    public void tokenLargerThanWindow() throws IOException {
+        String longValue = "abcdefghij".repeat(500);
+        Files.writeString(jsonFile, "['" + longValue + "', 1]", StandardCharsets.UTF_8);
+        try (MappedJsonTape tape = new MappedJsonTape(jsonFile, 1024)) {
+            assertEquals(longValue, tape.parseNextElement().getStringAt("[0]"));
+        }
+    }
+
+    @Test
+    public void skipsByteOrderMark() throws IOException {
+        Files.write(jsonFile, new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', '1', ']'});
+        try (MappedJsonTape tape = new MappedJsonTape(jsonFile)) {
+            assertEquals("[1]", tape.parseNextElement().asString());
+        }
+    }
+
+    @Test
+    public void errorReportsLineAndByteOffsetAfterSlidingWindow() throws IOException {
+        String input = manyLineArray("1 2]");
+        Files.writeString(jsonFile, input, StandardCharsets.UTF_8);
+        int expectedByteOffset = input.getBytes(StandardCharsets.UTF_8).length - 2;
+
+        try (MappedJsonTape tape = new MappedJsonTape(jsonFile, 1024)) {
+            tape.parseNextElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertTrue(e.getMessage().startsWith("Invalid array child delimiter.\n" +
+                    "Line: 5001\n" +
+                    "Byte Offset: " + expectedByteOffset + "\n" +
+                    "Reached: ..."));
+            assertTrue(e.getMessage().endsWith("'é4999'},\n1 _\nExpected: , / ]"));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParseOptions;
+import com.clumd.projects.javajson.api.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoTest {
+
+    private static final JsonParseOptions MEMOISED = JsonParseOptions.defaults().withMemoisation(true);
+    private static final List<String> DOCUMENTS = List.of(
+            "{}", "[]", "{\"a\": 1}", "[1, 2.5, \"x\", true]", "[1, 2, 3]",
+            "{\"a\": {\"b\": [1, {\"c\": [[], {}]}], \"d\": \"e\\n\"}, \"f\": [[[[false]]]]}",
+            "[{\"id\": 1, \"tags\": [\"x\"]}, {\"id\": 2, \"tags\": []}]");
+
+    @Test
+    public void givesExactlyTheSameOutputAsWithout() {
+        JsonParseOptions[] memoisedOptions = {MEMOISED, MEMOISED.withLazyMaterialisation(true),
+                MEMOISED.withColumnarRecords(true), MEMOISED.withMemoisationBudget(10)};
+        for (String document : DOCUMENTS) {
+            Json plain = JsonParser.parse(document);
+            for (JsonParseOptions options : memoisedOptions) {
+                Json memoised = JsonParser.parse(document, options);
+                for (int repeat = 0; repeat < 2; repeat++) {
+                    assertEquals(plain.asString(), memoised.asString());
+                    for (int depth = -1; depth < 6; depth++) {
+                        assertEquals(plain.asString(depth), memoised.asString(depth));
+                    }
+                    assertEquals(plain.asPrettyString(), memoised.asPrettyString());
+                    assertArrayEquals(plain.toUtf8Bytes(), memoised.toUtf8Bytes());
+                    assertEquals(plain.hashCode(), memoised.hashCode());
+                    assertEquals(plain, memoised);
+                    assertEquals(memoised, plain);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void keepsTextOnceWorkedOut() {
+        Memo memo = new Memo(new Memo.Budget(100));
+        assertNull(memo.compact());
+
+        String text = "[1,2]";
+        memo.keepCompact(text);
+        assertSame(text, memo.compact());
+        memo.keepCompact("[3,4]");
+        assertSame(text, memo.compact());
+    }
+
+    @Test
+    public void keepsNoMoreTextThanTheBudget() {
+        Memo.Budget budget = new Memo.Budget(8);
+        Memo fits = new Memo(budget);
+        Memo tooLarge = new Memo(budget);
+        Memo afterSpent = new Memo(budget);
+
+        fits.keepCompact("{\"a\":1}");
+        assertEquals("{\"a\":1}", fits.compact());
+        assertFalse(budget.isSpent());
+        tooLarge.keepCompact("[1,2]");
+        assertNull(tooLarge.compact());
+
+        assertTrue(budget.reserve(1));
+        assertTrue(budget.isSpent());
+        afterSpent.keepCompact("1");
+        assertNull(afterSpent.compact());
+        assertFalse(budget.reserve(1));
+    }
+
+    @Test
+    public void keepsTextOnlyForTheContainerAskedFor() throws IOException {
+        Json memoised = JsonParser.parse("{\"a\": {\"b\": [1, 2]}}", MEMOISED);
+        Json inner = memoised.getAnyAt("a");
+
+        String whole = memoised.asString();
+        assertSame(whole, memoised.asString());
+        assertSame(whole, memoised.asString(5));
+        assertEquals("{\"b\":[1,2]}", inner.asString());
+        assertNotSame(whole, inner.asString());
+
+        StringBuilder written = new StringBuilder();
+        memoised.writeTo(written);
+        assertEquals(whole, written.toString());
+    }
+
+    @Test
+    public void keepsHashesOnceWorkedOut() {
+        Memo memo = new Memo(new Memo.Budget(0));
+        Memo zero = new Memo(new Memo.Budget(0));
+        AtomicInteger hashes = new AtomicInteger();
+
+        assertEquals(42, memo.hashCode(() -> hashes.incrementAndGet() * 42));
+        assertEquals(42, memo.hashCode(() -> hashes.incrementAndGet() * 42));
+        assertEquals(0, zero.hashCode(() -> hashes.incrementAndGet() * 0));
+        assertEquals(0, zero.hashCode(() -> hashes.incrementAndGet() * 0));
+        assertEquals(2, hashes.get());
+    }
+
+    @Test
+    public void outputBelowTheFullDepthIsNeverMemoised() {
+        Json memoised = JsonParser.parse("{\"a\": {\"b\": {\"c\": 1}}}", MEMOISED);
+
+        assertEquals("{\"a\":{\"b\":{\"c\":1}}}", memoised.asString());
+        assertEquals("{\"a\":{<b>}}", memoised.asString(1));
+        assertEquals("{\"a\":{\"b\":{<c>}}}", memoised.asString(2));
+        assertEquals("{\"a\":{\"b\":{\"c\":1}}}", memoised.asString(3));
+        assertEquals(3, ((com.clumd.projects.javajson.core.Json) memoised).height());
+    }
+
+    @Test
+    public void distinctDocumentsCanBeMemoised() {
+        List<String> documents = List.of("{\"a\": [1, 2]}", "{\"a\":[1,2]}", "{\"a\": [2, 1]}", "[{}]", "[ {} ]");
+
+        Set<Json> distinct = JsonParser.parseMultipleStringsForDistinct(documents, MEMOISED);
+        assertEquals(JsonParser.parseMultipleStringsForDistinct(documents), distinct);
+        assertEquals(3, distinct.size());
+        assertTrue(distinct.contains(JsonParser.parse("{\"a\": [2, 1]}")));
+        assertFalse(distinct.contains(JsonParser.parse("{\"a\": [2, 2]}", MEMOISED)));
+    }
+
+    @Test
+    public void optionsAreKeptWithTheOthers() {
+        JsonParseOptions options = JsonParseOptions.defaults().withMemoisation(true).withMemoisationBudget(64)
+                .withLazyMaterialisation(true);
+
+        assertTrue(options.isMemoisation());
+        assertEquals(64, options.getMemoisationBudget());
+        assertTrue(options.isLazyMaterialisation());
+        assertFalse(JsonParseOptions.defaults().isMemoisation());
+        assertEquals(1 << 20, JsonParseOptions.defaults().getMemoisationBudget());
+        assertEquals(0, options.withMemoisationBudget(-5).getMemoisationBudget());
+    }
+}
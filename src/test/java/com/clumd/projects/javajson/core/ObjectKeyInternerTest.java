@@ -0,0 +1,96 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParseOptions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ObjectKeyInternerTest {
+
+    private static final String RECORDS = "[{\"id\": 1, \"name\": \"a\"}, {\"name\": \"b\", \"id\": 2}]";
+
+    private static String keyOf(Json json, String path, String key) {
+        for (String candidate : json.getKeysOf(path)) {
+            if (candidate.equals(key)) {
+                return candidate;
+            }
+        }
+        throw new AssertionError("No key " + key + " at " + path);
+    }
+
+    @Test
+    public void keysAreSharedWithinAParse() {
+        Json records = new JsonTape(RECORDS).parseNextElement();
+        assertSame(keyOf(records, "[0]", "id"), keyOf(records, "[1]", "id"));
+        assertSame(keyOf(records, "[0]", "name"), keyOf(records, "[1]", "name"));
+    }
+
+    @Test
+    public void keysAreSharedWithinAByteParse() {
+        Json records = new ByteTape(RECORDS.getBytes(StandardCharsets.UTF_8)).parseNextElement();
+        assertSame(keyOf(records, "[0]", "id"), keyOf(records, "[1]", "id"));
+    }
+
+    @Test
+    public void keysAreNotSharedWhenDisabled() {
+        Json records = new JsonTape(RECORDS, JsonParseOptions.defaults().withKeyInterning(false)).parseNextElement();
+        assertNotSame(keyOf(records, "[0]", "id"), keyOf(records, "[1]", "id"));
+    }
+
+    @Test
+    public void sharedInternerSpansParses() {
+        ObjectKeyInterner interner = new ObjectKeyInterner();
+        String id = interner.intern(new String("id"));
+        JsonParseOptions options = JsonParseOptions.defaults().withSharedKeyInterner(interner);
+
+        assertSame(id, keyOf(new JsonTape(RECORDS, options).parseNextElement(), "[0]", "id"));
+        assertSame(id, keyOf(new JsonTape("{'id': true}", options).parseNextElement(), "", "id"));
+    }
+
+    @Test
+    public void sharedInternerAcrossLazyAndParallelParses() {
+        ObjectKeyInterner interner = new ObjectKeyInterner();
+        JsonParseOptions options = JsonParseOptions.defaults()
+                .withSharedKeyInterner(interner)
+                .withLazyMaterialisation(true)
+                .withParallelArrays(true)
+                .withParallelArrayThreshold(2);
+        Json records = new JsonTape(RECORDS, options).parseNextElement();
+        assertSame(interner.intern("name"), keyOf(records, "[0]", "name"));
+        assertSame(keyOf(records, "[0]", "name"), keyOf(records, "[1]", "name"));
+    }
+
+    @Test
+    public void escapedAndNonAsciiKeysAreStillCorrect() {
+        Json json = new ByteTape("{\"a\\\"b\": 1, \"é\": 2, \"\\u0041\": 3, 'c': 4}".getBytes(StandardCharsets.UTF_8))
+                .parseNextElement();
+        assertEquals(List.of("a\"b", "é", "A", "c").stream().sorted().toList(), json.getKeys().stream().sorted().toList());
+    }
+
+    @Test
+    public void boundedTableStillGivesCorrectKeys() {
+        ObjectKeyInterner interner = new ObjectKeyInterner(8);
+        assertEquals(8, interner.capacity());
+        StringBuilder input = new StringBuilder("{");
+        for (int key = 0; key < 100; key++) {
+            input.append(key == 0 ? "" : ",").append("\"key").append(key).append("\": ").append(key);
+        }
+        Json json = new JsonTape(input.append("}").toString(), JsonParseOptions.defaults().withSharedKeyInterner(interner))
+                .parseNextElement();
+        for (int key = 0; key < 100; key++) {
+            assertEquals(key, json.getLongAt("key" + key));
+        }
+    }
+
+    @Test
+    public void capacityRoundsUpToPowerOfTwo() {
+        assertEquals(512, new ObjectKeyInterner(300).capacity());
+        assertEquals(8, new ObjectKeyInterner(1).capacity());
+    }
+}
@@ -0,0 +1,95 @@
+package com.clumd.projects.javajson.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectShapeTest {
+
+    @Test
+    public void sameKeysInTheSameOrderShareAShape() {
+        ObjectShape root = ObjectShape.root();
+        ObjectShape first = root.with("a").with("b");
+        ObjectShape second = root.with("a").with(new String("b"));
+        assertSame(first, second);
+        assertEquals(2, first.size());
+        assertEquals("a", first.keyAt(0));
+        assertEquals("b", first.keyAt(1));
+    }
+
+    @Test
+    public void differentKeyOrdersHaveDifferentShapes() {
+        ObjectShape root = ObjectShape.root();
+        assertNotSame(root.with("a").with("b"), root.with("b").with("a"));
+    }
+
+    @Test
+    public void differentRootsNeverShare() {
+        assertNotSame(ObjectShape.root().with("a"), ObjectShape.root().with("a"));
+    }
+
+    @Test
+    public void findsSlotsByIdentityOrEquality() {
+        ObjectShape shape = ObjectShape.root().with("a").with("b").with("c");
+        assertEquals(0, shape.slotOf("a"));
+        assertEquals(2, shape.slotOf(new String("c")));
+        assertEquals(-1, shape.slotOf("d"));
+        assertEquals(-1, shape.slotOf(null));
+    }
+
+    @Test
+    public void stopsRememberingTransitionsPastTheLimit() {
+        ObjectShape root = ObjectShape.root();
+        List<ObjectShape> remembered = new ArrayList<>();
+        for (int key = 0; key < 8; key++) {
+            remembered.add(root.with("key" + key));
+        }
+        for (int key = 0; key < 8; key++) {
+            assertSame(remembered.get(key), root.with("key" + key));
+        }
+        ObjectShape unremembered = root.with("key8");
+        assertEquals("key8", unremembered.keyAt(0));
+        assertNotSame(unremembered, root.with("key8"));
+    }
+
+    @Test
+    public void iterationOrderMatchesHashMap() {
+        ObjectShape shape = ObjectShape.root();
+        HashMap<String, Integer> expected = new HashMap<>();
+        String[] keys = {"zeta", "alpha", "id", "name", "score", "q", "Aa", "BB"};
+        for (int slot = 0; slot < keys.length; slot++) {
+            shape = shape.with(keys[slot]);
+            expected.put(keys[slot], slot);
+        }
+        List<Integer> actualOrder = new ArrayList<>();
+        for (int slot : shape.iterationOrder()) {
+            actualOrder.add(slot);
+        }
+        assertEquals(new ArrayList<>(expected.values()), actualOrder);
+        assertSame(shape.iterationOrder(), shape.iterationOrder());
+    }
+
+    @Test
+    public void canStillTransitionAfterDeserialisation() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ObjectShape.root().with("a"));
+        }
+        ObjectShape restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (ObjectShape) in.readObject();
+        }
+        ObjectShape extended = restored.with("b");
+        assertSame(extended, restored.with("b"));
+        assertEquals(0, restored.slotOf("a"));
+        assertEquals(1, extended.slotOf("b"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.exceptions.json.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ReaderJsonTapeTest {
+
+    private static final String NESTED_JSON = "{\"key\": [1, 2.5, 'three', true, {\"inner\": \"value\"}], // comment\n"
+            + "\"other\": {\"a\": [[], {}]}, /* block\ncomment */ \"last\": -3}";
+
+    @Test
+    public void nullReader() {
+        try {
+            new ReaderJsonTape(null);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("You cannot create something from nothing. Input was null.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void emptyReader() {
+        try {
+            new ReaderJsonTape(new StringReader(""));
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("You cannot create something from nothing. Input was empty.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void matchesStringTape() {
+        assertEquals(
+                new JsonTape(NESTED_JSON).parseNextElement(),
+                new ReaderJsonTape(new StringReader(NESTED_JSON)).parseNextElement()
+        );
+    }
+
+    @Test
+    public void matchesStringTapeWithTinyBuffer() {
+        assertEquals(
+                new JsonTape(NESTED_JSON).parseNextElement(),
+                new ReaderJsonTape(new StringReader(NESTED_JSON), 1).parseNextElement()
+        );
+    }
+
+    @Test
+    public void tokenLargerThanBuffer() {
+        String longValue = "abcdefghij".repeat(100);
+        assertEquals(longValue, new ReaderJsonTape(new StringReader("'" + longValue + "'"), 8)
+                .parseNextElement().getString());
+    }
+
+    @Test
+    public void manyElementsWithSmallBuffer() {
+        StringBuilder input = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            input.append(i).append(",\n");
+        }
+        input.append("5000]");
+        assertEquals(
+                new JsonTape(input.toString()).parseNextElement(),
+                new ReaderJsonTape(new StringReader(input.toString()), 64).parseNextElement()
+        );
+    }
+
+    @Test
+    public void errorContextMatchesStringTapeAfterReleasingInput() {
+        StringBuilder input = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            input.append(i).append(",\n");
+        }
+        input.append("5000 5001]");
+
+        String expected = null;
+        try {
+            new JsonTape(input.toString()).parseNextElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            expected = e.getMessage();
+        }
+        try {
+            new ReaderJsonTape(new StringReader(input.toString()), 64).parseNextElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals(expected, e.getMessage());
+            assertEquals("Invalid array child delimiter.\n" +
+                    "Line: 5001\n" +
+                    "Reached: ...4,\n4995,\n4996,\n4997,\n4998,\n4999,\n5000 _\n" +
+                    "Expected: , / ]", e.getMessage());
+        }
+    }
+
+    @Test
+    public void errorAtTheStartMatchesStringTape() {
+        for (String input : new String[]{"x", "tru", "]"}) {
+            String expected = null;
+            try {
+                new JsonTape(input).parseNextElement();
+                fail("The previous method call should have thrown an exception.");
+            } catch (JsonParseException e) {
+                expected = e.getMessage();
+            }
+            try {
+                new ReaderJsonTape(new StringReader(input)).parseNextElement();
+                fail("The previous method call should have thrown an exception.");
+            } catch (JsonParseException e) {
+                assertEquals(expected, e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void endOfInputBeforeComplete() {
+        try {
+            new ReaderJsonTape(new StringReader("{\"key\": [1, 2"), 4).parseNextElement();
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Reached the end of the JSON input before parsing was complete. Are you missing a terminating delimiter?", e.getMessage());
+        }
+    }
+
+    @Test
+    public void readFailureIsWrapped() {
+        Reader failingReader = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("Socket closed.");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try {
+            new ReaderJsonTape(failingReader);
+            fail("The previous method call should have thrown an exception.");
+        } catch (JsonParseException e) {
+            assertEquals("Failed to read the JSON input from its source.", e.getMessage());
+            assertEquals("Socket closed.", e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParseOptions;
+import com.clumd.projects.javajson.api.JsonParser;
+import com.clumd.projects.javajson.exceptions.json.KeyDifferentTypeException;
+import com.clumd.projects.javajson.exceptions.json.KeyNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordColumnsTest {
+
+    private static final JsonParseOptions COLUMNAR = JsonParseOptions.defaults().withColumnarRecords(true);
+    private static final String ROWS = "{\"rows\": ["
+            + "{\"id\": 1, \"score\": 0.5, \"ok\": true, \"tag\": \"red\"},"
+            + "{\"id\": 2, \"score\": 1.5, \"ok\": false, \"tag\": \"blue\"},"
+            + "{\"id\": 3, \"score\": -2.0, \"ok\": true, \"tag\": \"red\"}"
+            + "]}";
+
+    @Test
+    public void columnarArraysBehaveExactlyLikeNormalArrays() {
+        Json columnar = JsonParser.parse(ROWS, COLUMNAR);
+        Json normal = JsonParser.parse(ROWS);
+        assertEquals(normal.asString(), columnar.asString());
+        assertEquals(normal.asPrettyString(), columnar.asPrettyString());
+        assertEquals(normal, columnar);
+        assertEquals(columnar, normal);
+        assertEquals(normal.hashCode(), columnar.hashCode());
+        assertEquals(2, columnar.getLongAt("rows[1].id"));
+        assertEquals(-2.0, columnar.getDoubleAt("rows[2].score"));
+        assertEquals("blue", columnar.getStringAt("rows[1].tag"));
+        assertFalse(columnar.getBooleanAt("rows[1].ok"));
+        assertEquals(normal.getArrayAt("rows"), columnar.getArrayAt("rows"));
+        assertEquals(3, columnar.getArrayAt("rows").size());
+        assertFalse(columnar.contains("rows[3]"));
+    }
+
+    @Test
+    public void readsColumnsByIndex() {
+        RecordColumns rows = JsonParser.parse(ROWS, COLUMNAR).getColumnsAt("rows");
+        assertEquals(3, rows.getRowCount());
+        assertEquals(List.of("id", "score", "ok", "tag"), rows.getColumnNames());
+        int id = rows.getColumnIndex("id");
+        int score = rows.getColumnIndex("score");
+        int ok = rows.getColumnIndex("ok");
+        int tag = rows.getColumnIndex("tag");
+        assertEquals(JSType.LONG, rows.getColumnType(id));
+        assertEquals(JSType.DOUBLE, rows.getColumnType(score));
+        assertEquals(JSType.BOOLEAN, rows.getColumnType(ok));
+        assertEquals(JSType.STRING, rows.getColumnType(tag));
+
+        long total = 0;
+        for (int row = 0; row < rows.getRowCount(); row++) {
+            total += rows.getLong(id, row);
+        }
+        assertEquals(6, total);
+        assertEquals(1.5, rows.getDouble(score, 1));
+        assertTrue(rows.getBoolean(ok, 2));
+        assertEquals("red", rows.getString(tag, 2));
+        assertEquals(List.of("red", "blue"), rows.getDictionary(tag));
+        assertEquals(rows.getStringCode(tag, 0), rows.getStringCode(tag, 2));
+        assertNotEquals(rows.getStringCode(tag, 0), rows.getStringCode(tag, 1));
+    }
+
+    @Test
+    public void columnsCanBeBuiltFromArraysParsedNormally() {
+        RecordColumns rows = JsonParser.parse(ROWS).getColumnsAt("rows");
+        assertEquals(3, rows.getLong(rows.getColumnIndex("id"), 2));
+    }
+
+    @Test
+    public void mixedArraysAreNotColumnar() {
+        String[] notRecords = {
+                "[{\"a\": 1}, {\"a\": 1.5}]",
+                "[{\"a\": 1}, {\"b\": 1}]",
+                "[{\"a\": 1, \"b\": 2}, {\"b\": 2, \"a\": 1}]",
+                "[{\"a\": 1}, {\"a\": 1, \"b\": 2}]",
+                "[{\"a\": {}}, {\"a\": {}}]",
+                "[{\"a\": [1]}, {\"a\": [2]}]",
+                "[{\"a\": 1}, 2]",
+                "[1, 2]",
+                "[]"
+        };
+        for (String input : notRecords) {
+            Json parsed = JsonParser.parse(input, COLUMNAR);
+            assertEquals(JsonParser.parse(input).asString(), parsed.asString());
+            try {
+                parsed.getColumns();
+                fail("The previous method call should have thrown an exception.");
+            } catch (KeyDifferentTypeException e) {
+                assertEquals("This array does not hold records which all have the same keys, "
+                        + "with the same type of value for each key.", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void givesTheSameRecordEveryTime() {
+        Json columnar = JsonParser.parse(ROWS, COLUMNAR);
+        List<Json> rows = columnar.getArrayAt("rows");
+        assertSame(rows.get(1), rows.get(1));
+        assertSame(rows.get(2), columnar.getArrayAt("rows").get(2));
+        assertSame(rows.get(0), columnar.getAnyAt("rows[0]"));
+        assertSame(rows.get(0).getAnyAt("tag"), columnar.getAnyAt("rows[0].tag"));
+    }
+
+    @Test
+    public void lookupsIntoRecordsMatchNormalArrays() {
+        Json columnar = JsonParser.parse(ROWS, COLUMNAR);
+        Json normal = JsonParser.parse(ROWS);
+        for (String key : List.of("rows[0].id", "rows[2].tag", "rows[1][\"score\"]", "rows[1].ok")) {
+            assertEquals(normal.getAnyAt(key), columnar.getAnyAt(key));
+            assertEquals(normal.getAnyAt(key), JsonPath.compile(key).getAny(columnar));
+        }
+        for (String key : List.of("rows[3].id", "rows[0].missing", "rows[0].id.deeper", "rows[0][1]")) {
+            assertEquals(failureOf(normal, key), failureOf(columnar, key));
+        }
+    }
+
+    private static String failureOf(Json json, String key) {
+        try {
+            json.getAnyAt(key);
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        return fail("The previous method call should have thrown an exception.");
+    }
+
+    @Test
+    public void wideRecordsKeepTheirKeyOrder() {
+        StringBuilder input = new StringBuilder("[");
+        for (int record = 0; record < 3; record++) {
+            input.append(record == 0 ? "{" : ",{");
+            for (int key = 0; key < CompactObjectMap.FLAT_THRESHOLD + 4; key++) {
+                input.append(key == 0 ? "" : ",").append("\"field").append(key).append("\":").append(record * key);
+            }
+            input.append('}');
+        }
+        Json columnar = JsonParser.parse(input.append(']').toString(), COLUMNAR);
+        Json normal = JsonParser.parse(input.toString());
+        assertEquals(normal.asString(), columnar.asString());
+        assertEquals(normal.getKeysOf("[1]"), columnar.getKeysOf("[1]"));
+        RecordColumns rows = columnar.getColumns();
+        assertEquals(22, rows.getLong(rows.getColumnIndex("field11"), 2));
+        assertEquals(normal.getAnyAt("[2].field11"), columnar.getAnyAt("[2].field11"));
+    }
+
+    @Test
+    public void lazyArraysBecomeColumnarOnFirstAccess() {
+        Json lazy = JsonParser.parse(ROWS, COLUMNAR.withLazyMaterialisation(true));
+        assertEquals(JsonParser.parse(ROWS).asString(), lazy.asString());
+        assertEquals(2, lazy.getColumnsAt("rows").getLong(0, 1));
+    }
+
+    @Test
+    public void reportsMissingAndMistypedColumns() {
+        RecordColumns rows = JsonParser.parse(ROWS, COLUMNAR).getColumnsAt("rows");
+        try {
+            rows.getColumnIndex("missing");
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyNotFoundException e) {
+            assertEquals("No column named (missing) in these records.", e.getMessage());
+        }
+        try {
+            rows.getDouble(rows.getColumnIndex("id"), 0);
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyDifferentTypeException e) {
+            assertEquals("The Type of column (id) was not expected. Expected: DOUBLE  ->  Received: LONG", e.getMessage());
+        }
+        try {
+            JsonParser.parse("{\"a\": 1}").getColumnsAt("a");
+            fail("The previous method call should have thrown an exception.");
+        } catch (KeyDifferentTypeException e) {
+            assertEquals("The Type of Object found for key (a) was not expected. Expected: ARRAY  ->  Received: LONG",
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void survivesSerialisation() throws Exception {
+        Json columnar = JsonParser.parse(ROWS, COLUMNAR);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(columnar);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Json restored = (Json) in.readObject();
+            assertEquals(columnar.asString(), restored.asString());
+            assertEquals("red", restored.getColumnsAt("rows").getString(3, 0));
+        }
+    }
+}
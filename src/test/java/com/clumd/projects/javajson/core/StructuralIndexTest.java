@@ -0,0 +1,56 @@
+package com.clumd.projects.javajson.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StructuralIndexTest {
+
+    private static final String INPUT = "{\"a\": [1, {\"b\": \"x,]\"}, [2, 3]], /*c, ]*/ 'd': true}";
+
+    private static StructuralIndex indexOf(String input) {
+        return new StructuralIndex(new JsonTape(input));
+    }
+
+    @Test
+    public void indexesEveryToken() {
+        StructuralIndex index = indexOf("[1, true]");
+        assertEquals(5, index.size());
+        assertEquals(0, index.positionOf(0));
+        assertEquals(1, index.positionOf(1));
+        assertEquals(2, index.positionOf(2));
+        assertEquals(4, index.positionOf(3));
+        assertEquals(8, index.positionOf(4));
+    }
+
+    @Test
+    public void pairsBracketsAndStrings() {
+        StructuralIndex index = indexOf(INPUT);
+        assertEquals(INPUT.length() - 1, index.positionOf(index.matchingEntryOf(0)));
+        assertEquals(0, index.matchingEntryOf(index.size() - 1));
+
+        int stringEntry = index.firstEntryAtOrAfter(INPUT.indexOf("\"x"));
+        assertEquals(INPUT.indexOf("\"}"), index.positionOf(index.matchingEntryOf(stringEntry)));
+    }
+
+    @Test
+    public void ignoresCommentsAndStringContents() {
+        StructuralIndex index = indexOf(INPUT);
+        assertEquals(index.firstEntryAtOrAfter(INPUT.indexOf("'d'")), index.firstEntryAtOrAfter(INPUT.indexOf("/*")));
+        assertEquals(-1, index.matchingEntryOf(index.firstEntryAtOrAfter(INPUT.indexOf("true"))));
+    }
+
+    @Test
+    public void countsDirectChildren() {
+        StructuralIndex index = indexOf(INPUT);
+        assertEquals(2, index.countElements(0));
+        assertEquals(3, index.countElements(index.firstEntryAtOrAfter(INPUT.indexOf('['))));
+        assertEquals(0, indexOf("[ ]").countElements(0));
+        assertEquals(1, indexOf("[[1, 2]]").countElements(0));
+    }
+
+    @Test
+    public void unclosedContainerHasNoCount() {
+        assertEquals(-1, indexOf("[1, 2").countElements(0));
+    }
+}
@@ -0,0 +1,103 @@
+package com.clumd.projects.javajson.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TapeAllocationTest {
+
+    private static final int TOKENS = 20_000;
+    private static final String LITERALS = " true ,\n\tfalse\r\n, TRUE ,False  ,";
+    private static final String NUMBERS = " 123456789, -0.5,1.25e-7,-9223372036854775808,";
+
+    private static long allocatedBytes() {
+        // Not every JVM can measure this, in which case there is nothing for this test to check.
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static long allocatedBytesScanning(JsonTape tape, int tokens, ScanTokens scan) {
+        long before = allocatedBytes();
+        scan.scan(tape, tokens);
+        return allocatedBytes() - before;
+    }
+
+    private static void assertAllocationDoesNotGrowPerToken(Function<Integer, JsonTape> tapeOfTokens, ScanTokens scan) {
+        // Warm up the scan and the measurement itself, whose first use costs more than later ones.
+        scan.scan(tapeOfTokens.apply(2 * TOKENS), 2 * TOKENS);
+        if (allocatedBytes() < 0) {
+            return;
+        }
+
+        // Fixed costs, from measuring or the JVM itself, are the same for both. Anything allocated per token would be at
+        // least one object of 16 bytes or more for each of the extra tokens, not just a byte each.
+        JsonTape tokensTape = tapeOfTokens.apply(TOKENS);
+        JsonTape twiceTokensTape = tapeOfTokens.apply(2 * TOKENS);
+        long forTokens = allocatedBytesScanning(tokensTape, TOKENS, scan);
+        long forTwiceTokens = allocatedBytesScanning(twiceTokensTape, 2 * TOKENS, scan);
+        assertTrue(forTwiceTokens - forTokens < TOKENS,
+                "Allocated " + forTokens + " bytes for " + TOKENS + " tokens, but " + forTwiceTokens + " for twice as many.");
+    }
+
+    @FunctionalInterface
+    private interface ScanTokens {
+        void scan(JsonTape tape, int tokens);
+    }
+
+    private static int scanWhiteSpaceLiteralsAndDelimiters(JsonTape tape, int tokens) {
+        int trueCount = 0;
+        for (int token = 0; token < tokens; token++) {
+            tape.consumeWhiteSpace();
+            if (tape.scanBoolean()) {
+                trueCount++;
+            }
+            tape.consumeWhiteSpace();
+            tape.consumeOne();
+        }
+        return trueCount;
+    }
+
+    private static double scanNumbers(JsonTape tape, int tokens) {
+        double total = 0;
+        for (int token = 0; token < tokens; token++) {
+            tape.consumeWhiteSpace();
+            total += tape.scanNumber() == JSType.LONG ? tape.scannedLong() : tape.scannedDouble();
+            tape.consumeOne();
+        }
+        return total;
+    }
+
+    @Test
+    public void scanningPrimitivesDoNotAllocate() {
+        assertEquals(TOKENS / 2, scanWhiteSpaceLiteralsAndDelimiters(new JsonTape(LITERALS.repeat(TOKENS / 4) + " "), TOKENS));
+        assertAllocationDoesNotGrowPerToken(
+                tokens -> new JsonTape(LITERALS.repeat(tokens / 4) + " "),
+                TapeAllocationTest::scanWhiteSpaceLiteralsAndDelimiters
+        );
+    }
+
+    @Test
+    public void byteScanningPrimitivesDoNotAllocate() {
+        assertAllocationDoesNotGrowPerToken(
+                tokens -> new ByteTape((LITERALS.repeat(tokens / 4) + " ").getBytes(StandardCharsets.UTF_8)),
+                TapeAllocationTest::scanWhiteSpaceLiteralsAndDelimiters
+        );
+    }
+
+    @Test
+    public void numberScanningDoesNotAllocate() {
+        assertAllocationDoesNotGrowPerToken(
+                tokens -> new JsonTape(NUMBERS.repeat(tokens / 4) + " "),
+                TapeAllocationTest::scanNumbers
+        );
+    }
+}
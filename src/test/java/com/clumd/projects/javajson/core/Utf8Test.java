@@ -0,0 +1,88 @@
+package com.clumd.projects.javajson.core;
+
+import com.clumd.projects.javajson.api.Json;
+import com.clumd.projects.javajson.api.JsonParseOptions;
+import com.clumd.projects.javajson.api.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8Test {
+
+    private static final List<String> DOCUMENTS = List.of(
+            "{}", "[]", "0", "-1", "9223372036854775807", "-9223372036854775808", "1.5", "-0.0", "1e300", "true", "false",
+            "\"\"", "\"a\\\\b\\\"c\"", "\"café über ☃ 😀\"",
+            "{\"a\": 1, \"b\": [1, 2.5, {\"c\\\"\": \"d\\\\e\"}], \"é\": {}, \"g\": [], \"h\": false}",
+            "[1, 22, 333, -4444, 55555]", "[0.5, 1.0, 2.25]", "[[1, [2]], [], [[]], {\"x\": [true]}]",
+            "[{\"id\": 1, \"name\": \"x\"}, {\"id\": 2, \"name\": \"ÿ\"}]");
+
+    @Test
+    public void givesTheSameBytesAsEncodingAsString() {
+        JsonParseOptions[] options = {
+                JsonParseOptions.defaults(),
+                JsonParseOptions.defaults().withLazyMaterialisation(true),
+                JsonParseOptions.defaults().withColumnarRecords(true)
+        };
+        for (String document : DOCUMENTS) {
+            for (JsonParseOptions option : options) {
+                Json json = JsonParser.parse(document, option);
+                assertArrayEquals(json.asString().getBytes(StandardCharsets.UTF_8), json.toUtf8Bytes());
+            }
+        }
+    }
+
+    @Test
+    public void givesTheSameBytesForAnyLong() {
+        Random random = new Random(22);
+        for (int i = 0; i < 1000; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+            Json json = JsonParser.parse("[" + value + "]");
+            assertArrayEquals(("[" + value + "]").getBytes(StandardCharsets.UTF_8), json.toUtf8Bytes());
+            assertEquals(String.valueOf(value).length(), Utf8.longLength(value));
+        }
+    }
+
+    @Test
+    public void writesUnpairedSurrogatesAsQuestionMarks() {
+        Json json = new JSString("a\ud83db\ude00c\ud83d");
+
+        assertArrayEquals("\"a?b?c?\"".getBytes(StandardCharsets.UTF_8), json.toUtf8Bytes());
+        assertArrayEquals(json.asString().getBytes(StandardCharsets.UTF_8), json.toUtf8Bytes());
+    }
+
+    @Test
+    public void writesIntoBuffersAtTheirPosition() {
+        Json json = JsonParser.parse("{\"a\": [1, \"☃\"]}");
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) '>');
+
+        json.writeUtf8(buffer);
+        json.writeUtf8(buffer);
+
+        buffer.flip();
+        assertEquals(">{\"a\":[1,\"☃\"]}{\"a\":[1,\"☃\"]}", StandardCharsets.UTF_8.decode(buffer).toString());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.toUtf8Bytes().length);
+        json.writeUtf8(direct);
+        assertFalse(direct.hasRemaining());
+    }
+
+    @Test
+    public void writesNothingIfItWillNotAllFit() {
+        Json json = JsonParser.parse("{\"a\": [1, 2, 3]}");
+        ByteBuffer buffer = ByteBuffer.allocate(json.toUtf8Bytes().length - 1);
+
+        try {
+            json.writeUtf8(buffer);
+            fail("The previous method call should have thrown an exception.");
+        } catch (BufferOverflowException e) {
+            assertEquals(0, buffer.position());
+        }
+    }
+}
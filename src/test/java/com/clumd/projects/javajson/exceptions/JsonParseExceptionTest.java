@@ -12,4 +12,11 @@ class JsonParseExceptionTest {
         JsonException exception = new JsonParseException("Some error text");
         assertEquals("Some error text", exception.getMessage());
     }
+
+    @Test
+    public void basicPOJOWithSubException() {
+        JsonException exception = new JsonParseException("Some error text", new Throwable("because of this."));
+        assertEquals("Some error text", exception.getMessage());
+        assertEquals("because of this.", exception.getCause().getMessage());
+    }
 }
\ No newline at end of file